@@ -128,7 +128,11 @@ public abstract class Vue
     {
         VueJsConstructor<T> extendedVueJsConstructor = extend(componentOptions);
         VueGWTTools.extendVueConstructorWithJavaPrototype(extendedVueJsConstructor,
-            componentOptions.getComponentJavaPrototype());
+            componentOptions.getComponentJavaPrototype(),
+            componentOptions.getTemplateExpressions());
+
+        if (componentOptions.isFunctional())
+            VueGWTTools.initFunctionalComponent(extendedVueJsConstructor);
 
         return extendedVueJsConstructor;
     }
@@ -7,6 +7,8 @@ import com.axellience.vuegwt.client.jsnative.html.HTMLElement;
 import com.axellience.vuegwt.client.jsnative.jsfunctions.JsRunnable;
 import com.axellience.vuegwt.client.jsnative.jstypes.JsArray;
 import com.axellience.vuegwt.client.jsnative.jstypes.JsObject;
+import com.axellience.vuegwt.client.metrics.VueGWTMetrics;
+import com.axellience.vuegwt.client.observer.VueGWTObserverManager;
 import com.axellience.vuegwt.client.resources.VueGwtResources;
 import com.axellience.vuegwt.client.resources.VueLibResources;
 import com.axellience.vuegwt.client.tools.JsTools;
@@ -225,6 +227,49 @@ public class VueGWT
         onReadyCallbacksJava.push(callback);
     }
 
+    /**
+     * Prevent Vue from observing the given object.
+     * Useful for large immutable objects, they are kept as plain Java objects without any
+     * observation overhead. Changes made to them won't update the views.
+     * Must be called before the object is added to the data of a Component.
+     * @param object The object to freeze
+     * @param <T> The type of the object
+     * @return The given object
+     */
+    @JsIgnore
+    public static <T> T freeze(T object)
+    {
+        return VueGWTObserverManager.freeze(object);
+    }
+
+    /**
+     * Observe the elements of the given Collection or Map when they are first read, instead of
+     * when the object is added to the data of a Component.
+     * Only reads made with get (on a List or a Map), toArray (used by v-for) and values (on a
+     * Map) observe elements: don't use it for collections read with an Iterator, forEach, stream
+     * or entrySet.
+     * Must be called before the object is added to the data of a Component.
+     * @param object The Collection or Map to observe lazily
+     * @param <T> The type of the object
+     * @return The given object
+     */
+    @JsIgnore
+    public static <T> T observeLazily(T object)
+    {
+        return VueGWTObserverManager.observeLazily(object);
+    }
+
+    /**
+     * Return the {@link VueGWTMetrics}, to measure how long your Components take to init, render
+     * and patch.
+     * @return The {@link VueGWTMetrics}
+     */
+    @JsIgnore
+    public static VueGWTMetrics getMetrics()
+    {
+        return VueGWTMetrics.get();
+    }
+
     private static boolean isVueLibInjected()
     {
         return JsTools.getWindow().get("Vue") != null;
@@ -0,0 +1,275 @@
+package com.axellience.vuegwt.client.component.keepalive;
+
+import com.axellience.vuegwt.client.VueGWT;
+import com.axellience.vuegwt.client.component.HasRender;
+import com.axellience.vuegwt.client.component.VueComponent;
+import com.axellience.vuegwt.client.component.hooks.HasDestroyed;
+import com.axellience.vuegwt.client.component.hooks.HasUpdated;
+import com.axellience.vuegwt.client.jsnative.jstypes.JsArray;
+import com.axellience.vuegwt.client.tools.JsTools;
+import com.axellience.vuegwt.client.vnode.VNode;
+import com.axellience.vuegwt.client.vnode.VNodeComponentOptions;
+import com.axellience.vuegwt.client.vnode.builder.VNodeBuilder;
+import com.axellience.vuegwt.client.vue.VueJsConstructor;
+import jsinterop.annotations.JsProperty;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Like the keep-alive Component of Vue.js, keeps the instances of the Component it displays alive
+ * when switching between them, instead of destroying them.
+ * <pre>
+ * &lt;keep-alive-cache :max="5" :exclude="notCachedTabs"&gt;
+ *     &lt;component :is="currentTab"&gt;&lt;/component&gt;
+ * &lt;/keep-alive-cache&gt;
+ * </pre>
+ * The Components to keep are chosen by their Class with the include and exclude props, both
+ * arrays of Component Classes.
+ * <br>
+ * If max is set, at most max instances are kept. When a new instance must be kept, the least
+ * recently displayed one is evicted: an "evict" event is emitted with the instance, and the
+ * instance is destroyed.
+ * <br>
+ * The library is not processed by the annotation processor, the {@link
+ * KeepAliveCacheComponentJsType} and {@link KeepAliveCacheComponentFactory} generated for other
+ * Components are written by hand.
+ */
+public class KeepAliveCacheComponent extends VueComponent implements HasRender, HasUpdated,
+    HasDestroyed
+{
+    /**
+     * Maximum number of instances kept. If 0 all the instances are kept.
+     */
+    @JsProperty int max;
+
+    /**
+     * Classes of the Components to keep, if not set all the Components are kept.
+     */
+    @JsProperty Class<?>[] include;
+
+    /**
+     * Classes of the Components not to keep.
+     */
+    @JsProperty Class<?>[] exclude;
+
+    /**
+     * VNodes of the kept instances by key, the least recently displayed first.
+     */
+    private final Map<String, VNode> cache = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Instances evicted while being displayed, destroyed once replaced.
+     */
+    private final List<VueComponent> evictedDisplayedInstances = new LinkedList<>();
+
+    private String displayedKey;
+    private int hitCount;
+    private int missCount;
+    private int evictionCount;
+
+    int maxDefault()
+    {
+        return 0;
+    }
+
+    @Override
+    public VNode render(VNodeBuilder builder)
+    {
+        VNode vnode = getFirstComponentChild();
+        if (vnode == null)
+            return null;
+
+        VNodeComponentOptions componentOptions = vnode.getComponentOptions();
+        if (!isCached(componentOptions.getCtor()))
+        {
+            displayedKey = null;
+            return vnode;
+        }
+
+        String key = getCacheKey(vnode);
+        VNode cachedVNode = cache.get(key);
+        if (cachedVNode != null)
+        {
+            vnode.setComponentInstance(cachedVNode.getComponentInstance());
+            if (!key.equals(displayedKey))
+                hitCount++;
+        }
+        else
+        {
+            cache.put(key, vnode);
+            if (!key.equals(displayedKey))
+                missCount++;
+            evictOverMax();
+        }
+
+        displayedKey = key;
+        vnode.getData().setKeepAlive(true);
+        return vnode;
+    }
+
+    @Override
+    public void updated()
+    {
+        VueComponent displayedInstance = getDisplayedInstance();
+        Iterator<VueComponent> iterator = evictedDisplayedInstances.iterator();
+        while (iterator.hasNext())
+        {
+            VueComponent instance = iterator.next();
+            if (instance == displayedInstance)
+                continue;
+
+            iterator.remove();
+            if (!isInCache(instance))
+                instance.$destroy();
+        }
+    }
+
+    @Override
+    public void destroyed()
+    {
+        for (VNode vnode : cache.values())
+            destroyInstance(vnode.getComponentInstance());
+        for (VueComponent instance : evictedDisplayedInstances)
+            destroyInstance(instance);
+
+        cache.clear();
+        evictedDisplayedInstances.clear();
+    }
+
+    /**
+     * Called when include, exclude or max change, to evict the instances not to keep anymore.
+     */
+    void pruneCache()
+    {
+        Iterator<Entry<String, VNode>> iterator = cache.entrySet().iterator();
+        while (iterator.hasNext())
+        {
+            VNode vnode = iterator.next().getValue();
+            if (isCached(vnode.getComponentOptions().getCtor()))
+                continue;
+
+            iterator.remove();
+            evict(vnode);
+        }
+
+        evictOverMax();
+    }
+
+    /**
+     * @return The hits, misses and evictions of this cache since it was created
+     */
+    public KeepAliveCacheMetrics getMetrics()
+    {
+        return new KeepAliveCacheMetrics(hitCount, missCount, evictionCount, cache.size());
+    }
+
+    private void evictOverMax()
+    {
+        while (max > 0 && cache.size() > max)
+        {
+            Iterator<VNode> iterator = cache.values().iterator();
+            VNode leastRecentlyUsed = iterator.next();
+            iterator.remove();
+            evict(leastRecentlyUsed);
+        }
+    }
+
+    private void evict(VNode vnode)
+    {
+        evictionCount++;
+        VueComponent instance = vnode.getComponentInstance();
+        if (instance == null)
+            return;
+
+        $emit("evict", instance);
+
+        // The displayed instance is still in the DOM, it's destroyed once another one replaced it
+        if (instance == getDisplayedInstance())
+            evictedDisplayedInstances.add(instance);
+        else
+            instance.$destroy();
+    }
+
+    private void destroyInstance(VueComponent instance)
+    {
+        if (instance != null)
+            instance.$destroy();
+    }
+
+    private boolean isCached(VueJsConstructor ctor)
+    {
+        if (include != null && !containsComponent(include, ctor))
+            return false;
+
+        return exclude == null || !containsComponent(exclude, ctor);
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean containsComponent(Class<?>[] componentClasses, VueJsConstructor ctor)
+    {
+        for (Class<?> componentClass : componentClasses)
+        {
+            if (VueGWT.getJsConstructor((Class<VueComponent>) componentClass) == ctor)
+                return true;
+        }
+
+        return false;
+    }
+
+    private boolean isInCache(VueComponent instance)
+    {
+        for (VNode vnode : cache.values())
+        {
+            if (vnode.getComponentInstance() == instance)
+                return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Like Vue.js, instances are kept by the key of their VNode, or by Component if they have none.
+     * @param vnode The VNode of the displayed Component
+     * @return The key in the cache
+     */
+    private String getCacheKey(VNode vnode)
+    {
+        if (vnode.getKey() != null)
+            return String.valueOf(vnode.getKey());
+
+        VNodeComponentOptions componentOptions = vnode.getComponentOptions();
+        Object cid = JsTools.get(componentOptions.getCtor(), "cid");
+        String tag = componentOptions.getTag();
+        return cid + (tag != null ? "::" + tag : "");
+    }
+
+    private VNode getFirstComponentChild()
+    {
+        JsArray<VNode> children = $slots().get("default");
+        if (children == null)
+            return null;
+
+        for (int i = 0; i < children.length; i++)
+        {
+            VNode child = children.get(i);
+            if (child != null && child.getComponentOptions() != null)
+                return child;
+        }
+
+        return null;
+    }
+
+    private VueComponent getDisplayedInstance()
+    {
+        VNode displayedVNode = JsTools.get(this, "_vnode");
+        if (displayedVNode == null)
+            return null;
+
+        return displayedVNode.getComponentInstance();
+    }
+}
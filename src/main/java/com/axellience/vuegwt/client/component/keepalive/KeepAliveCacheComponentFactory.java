@@ -0,0 +1,34 @@
+package com.axellience.vuegwt.client.component.keepalive;
+
+import com.axellience.vuegwt.client.Vue;
+import com.axellience.vuegwt.client.vue.VueFactory;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * VueFactory for Component {@link KeepAliveCacheComponent}.
+ * To use it in your Components, add it to their local components:
+ * {@code @Component(components = KeepAliveCacheComponent.class)}.
+ */
+@Singleton
+public final class KeepAliveCacheComponentFactory extends VueFactory<KeepAliveCacheComponent>
+{
+    private static KeepAliveCacheComponentFactory INSTANCE;
+
+    @Inject
+    private void init()
+    {
+        jsConstructor = Vue.extendJavaComponent(KeepAliveCacheComponentJsType.getOptions());
+    }
+
+    public static KeepAliveCacheComponentFactory get()
+    {
+        if (INSTANCE == null)
+        {
+            INSTANCE = new KeepAliveCacheComponentFactory();
+            INSTANCE.init();
+        }
+        return INSTANCE;
+    }
+}
@@ -0,0 +1,73 @@
+package com.axellience.vuegwt.client.component.keepalive;
+
+import com.axellience.vuegwt.client.VueGWT;
+import com.axellience.vuegwt.client.component.options.VueComponentOptions;
+import com.axellience.vuegwt.client.tools.JsTools;
+import com.axellience.vuegwt.client.vnode.VNode;
+import com.axellience.vuegwt.client.vnode.builder.CreateElementFunction;
+import com.axellience.vuegwt.client.vnode.builder.VNodeBuilder;
+import jsinterop.annotations.JsType;
+
+/**
+ * Exposes {@link KeepAliveCacheComponent} to Vue, like the JsType generated for other Components.
+ */
+@JsType(namespace = "VueGWT.javaComponentConstructors",
+    name = "com_axellience_vuegwt_client_component_keepalive_KeepAliveCacheComponent")
+public class KeepAliveCacheComponentJsType extends KeepAliveCacheComponent
+{
+    static
+    {
+        VueGWT.onReady(() -> VueGWT.register(
+            "com.axellience.vuegwt.client.component.keepalive.KeepAliveCacheComponent",
+            () -> KeepAliveCacheComponentFactory.get()));
+    }
+
+    public boolean vuegwt$hrc_0;
+
+    public void vuegwt$created()
+    {
+        if (vuegwt$hrc_0)
+            return;
+        vuegwt$hrc_0 = true;
+
+        Object javaConstructor = VueGWT.getJavaConstructor(KeepAliveCacheComponent.class);
+        JsTools.call(javaConstructor, this);
+    }
+
+    public VNode vuegwt$render(CreateElementFunction createElementFunction)
+    {
+        return super.render(new VNodeBuilder(this, createElementFunction));
+    }
+
+    public int maxDefault()
+    {
+        return super.maxDefault();
+    }
+
+    public void pruneCache()
+    {
+        super.pruneCache();
+    }
+
+    public static VueComponentOptions<KeepAliveCacheComponent> getOptions()
+    {
+        VueComponentOptions<KeepAliveCacheComponent> options = new VueComponentOptions<>();
+        options.setComponentJavaConstructor(VueGWT.getJavaConstructor(
+            KeepAliveCacheComponent.class));
+        // Like keep-alive, it doesn't appear in the parent chain of the Components it displays
+        options.set("abstract", true);
+        options.initData(true);
+        options.addJavaProp("max", false, "Number");
+        options.addJavaPropDefaultValue("maxDefault", "max");
+        options.addJavaProp("include", false, null);
+        options.addJavaProp("exclude", false, null);
+        options.addJavaWatch("pruneCache", "include", false);
+        options.addJavaWatch("pruneCache", "exclude", false);
+        options.addJavaWatch("pruneCache", "max", false);
+        options.addHookMethod("updated");
+        options.addHookMethod("destroyed");
+        options.addHookMethod("render", "vuegwt$render");
+        options.addHookMethod("created", "vuegwt$created");
+        return options;
+    }
+}
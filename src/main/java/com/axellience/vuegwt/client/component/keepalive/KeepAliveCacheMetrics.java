@@ -0,0 +1,72 @@
+package com.axellience.vuegwt.client.component.keepalive;
+
+/**
+ * Metrics of a {@link KeepAliveCacheComponent}, to choose its max.
+ * A hit is when a kept instance is displayed again, a miss when a new instance is created.
+ * Rendering the same instance again doesn't count.
+ */
+public final class KeepAliveCacheMetrics
+{
+    private final int hitCount;
+    private final int missCount;
+    private final int evictionCount;
+    private final int retainedCount;
+
+    KeepAliveCacheMetrics(int hitCount, int missCount, int evictionCount, int retainedCount)
+    {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.retainedCount = retainedCount;
+    }
+
+    public int getHitCount()
+    {
+        return hitCount;
+    }
+
+    public int getMissCount()
+    {
+        return missCount;
+    }
+
+    /**
+     * @return The part of the displayed instances that were kept, between 0 and 1
+     */
+    public double getHitRate()
+    {
+        int total = hitCount + missCount;
+        if (total == 0)
+            return 0;
+
+        return (double) hitCount / total;
+    }
+
+    public int getEvictionCount()
+    {
+        return evictionCount;
+    }
+
+    /**
+     * @return The number of instances currently kept
+     */
+    public int getRetainedCount()
+    {
+        return retainedCount;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "KeepAliveCacheMetrics{"
+            + "hitCount="
+            + hitCount
+            + ", missCount="
+            + missCount
+            + ", evictionCount="
+            + evictionCount
+            + ", retainedCount="
+            + retainedCount
+            + '}';
+    }
+}
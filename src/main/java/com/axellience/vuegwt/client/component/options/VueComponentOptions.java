@@ -1,5 +1,6 @@
 package com.axellience.vuegwt.client.component.options;
 
+import com.axellience.vuegwt.client.component.ComponentJavaConstructor;
 import com.axellience.vuegwt.client.component.ComponentJavaPrototype;
 import com.axellience.vuegwt.client.component.VueComponent;
 import com.axellience.vuegwt.client.component.options.computed.ComputedKind;
@@ -12,6 +13,7 @@ import com.axellience.vuegwt.client.jsnative.jstypes.JSON;
 import com.axellience.vuegwt.client.jsnative.jstypes.JsArray;
 import com.axellience.vuegwt.client.jsnative.jstypes.JsObject;
 import com.axellience.vuegwt.client.tools.JsTools;
+import com.axellience.vuegwt.client.tools.VueGWTTools;
 import com.google.gwt.resources.client.CssResource;
 import jsinterop.annotations.JsOverlay;
 import jsinterop.annotations.JsPackage;
@@ -38,17 +40,34 @@ import static com.axellience.vuegwt.client.tools.JsTools.isUndefined;
 @JsType(isNative = true, namespace = JsPackage.GLOBAL, name = "Object")
 public class VueComponentOptions<T extends VueComponent> extends JsObject
 {
+    private ComponentJavaConstructor<T> componentJavaConstructor;
     private ComponentJavaPrototype<T> componentJavaPrototype;
     private TemplateResource<T> templateResource;
     private Map<String, Provider<?>> dependenciesProvider;
     private JsObject dataFields;
+    private JsObject templateExpressions;
+
+    /**
+     * Set the Java Constructor on this {@link VueComponentOptions}.
+     * Its prototype will be used to retrieve the java methods of our {@link VueComponent}.
+     * @param javaConstructor The Java constructor of the JsType generated for this Component
+     */
+    @JsOverlay
+    public final void setComponentJavaConstructor(ComponentJavaConstructor<T> javaConstructor)
+    {
+        this.componentJavaConstructor = javaConstructor;
+        this.componentJavaPrototype = javaConstructor.getPrototype();
+    }
 
     /**
      * Set the Java Prototype on this {@link VueComponentOptions}.
      * This prototype will be used to retrieve the java methods of our {@link VueComponent}.
-     * @param javaPrototype An instance of the {@link TemplateResource} class for this
-     * Component
+     * @param javaPrototype The Java prototype of the JsType generated for this Component
+     * @deprecated Use {@link #setComponentJavaConstructor(ComponentJavaConstructor)}: without the
+     * constructor, instances released to a {@link com.axellience.vuegwt.client.vue.VueFactory}
+     * only get the values of their data function back, not the ones set by their Java constructor.
      */
+    @Deprecated
     @JsOverlay
     public final void setComponentJavaPrototype(ComponentJavaPrototype<T> javaPrototype)
     {
@@ -67,6 +86,7 @@ public class VueComponentOptions<T extends VueComponent> extends JsObject
         this.templateResource = templateResource;
         this.injectStyles();
         this.initExpressions();
+        this.initMethodReferences();
         this.initRenderFunctions();
     }
 
@@ -84,16 +104,34 @@ public class VueComponentOptions<T extends VueComponent> extends JsObject
 
     /**
      * Add template expressions to this {@link VueComponentOptions}.
+     * They are not added as Vue methods, as Vue would bind each of them to each instance.
+     * Instead they are set on the prototype of the Vue constructor (see {@link
+     * VueGWTTools#extendVueConstructorWithJavaPrototype}), and the render function calls them on
+     * the instance.
      */
     @JsOverlay
     private void initExpressions()
     {
+        templateExpressions = new JsObject();
         for (String methodId : templateResource.getTemplateMethods())
         {
-            addMethod(methodId, JsTools.get(templateResource, methodId));
+            templateExpressions.set(methodId, JsTools.get(templateResource, methodId));
         }
     }
 
+    /**
+     * Add the Component methods used as values in the template (for example as event handlers).
+     * Other methods are called on the instance by the render function, and don't need to be
+     * bound.
+     */
+    @JsOverlay
+    private void initMethodReferences()
+    {
+        String[] methodReferences = templateResource.getTemplateMethodReferences();
+        if (methodReferences != null)
+            addMethods(methodReferences);
+    }
+
     /**
      * Initialise the render functions from our template.
      */
@@ -292,6 +330,26 @@ public class VueComponentOptions<T extends VueComponent> extends JsObject
         return componentJavaPrototype.get(javaMethodName);
     }
 
+    /**
+     * Return the functions for the Java expressions of our template, by expression id.
+     * @return The template expressions, null if the Component doesn't have a template
+     */
+    @JsOverlay
+    public final JsObject getTemplateExpressions()
+    {
+        return templateExpressions;
+    }
+
+    /**
+     * Return the constructor of our Component Java object.
+     * @return The constructor of our Component Java object
+     */
+    @JsOverlay
+    public final ComponentJavaConstructor<T> getComponentJavaConstructor()
+    {
+        return componentJavaConstructor;
+    }
+
     /**
      * Return the prototype for our Component Java object. We can use it to get methods from.
      * @return The prototype of our Component Java object
@@ -351,6 +409,7 @@ public class VueComponentOptions<T extends VueComponent> extends JsObject
     @JsProperty private VueComponent parent;
 
     @JsProperty private String name;
+    @JsProperty private boolean functional;
 
     @JsProperty private JsArray<Object> staticRenderFns;
 
@@ -570,4 +629,17 @@ public class VueComponentOptions<T extends VueComponent> extends JsObject
         this.name = name;
         return this;
     }
+
+    @JsOverlay
+    public final boolean isFunctional()
+    {
+        return functional;
+    }
+
+    @JsOverlay
+    public final VueComponentOptions setFunctional(boolean functional)
+    {
+        this.functional = functional;
+        return this;
+    }
 }
@@ -32,6 +32,10 @@ public interface TemplateResource<T extends VueComponent> extends ResourceProtot
     {
         return null;
     }
+    default String[] getTemplateMethodReferences()
+    {
+        return null;
+    }
     default Map<String, CssResource> getTemplateStyles()
     {
         return null;
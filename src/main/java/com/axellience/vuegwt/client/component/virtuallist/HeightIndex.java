@@ -0,0 +1,134 @@
+package com.axellience.vuegwt.client.component.virtuallist;
+
+/**
+ * Heights of the rows of a {@link VirtualListComponent} when they are measured.
+ * Rows that have not been rendered yet use an estimated height.
+ * <br>
+ * Heights are summed in a Fenwick tree, so both getting the offset of a row and finding the row
+ * at a given offset cost O(log n), and so does changing the height of a row.
+ */
+final class HeightIndex
+{
+    private final double[] heights;
+    private final double[] sums;
+
+    /**
+     * Create an index for the given number of rows.
+     * @param size The number of rows
+     * @param estimatedHeight The height of the rows that have not been measured
+     * @param previous A previous index to keep the measured heights from, can be null
+     */
+    HeightIndex(int size, double estimatedHeight, HeightIndex previous)
+    {
+        heights = new double[size];
+        int kept = previous != null ? Math.min(size, previous.size()) : 0;
+        for (int i = 0; i < kept; i++)
+            heights[i] = previous.heights[i];
+        for (int i = kept; i < size; i++)
+            heights[i] = estimatedHeight;
+
+        sums = new double[size + 1];
+        buildSums();
+    }
+
+    private HeightIndex(double[] heights)
+    {
+        this.heights = heights;
+        this.sums = new double[heights.length + 1];
+        buildSums();
+    }
+
+    private void buildSums()
+    {
+        for (int i = 1; i < sums.length; i++)
+        {
+            sums[i] += heights[i - 1];
+            int parent = i + (i & -i);
+            if (parent < sums.length)
+                sums[parent] += sums[i];
+        }
+    }
+
+    int size()
+    {
+        return heights.length;
+    }
+
+    double get(int index)
+    {
+        return heights[index];
+    }
+
+    void set(int index, double height)
+    {
+        double delta = height - heights[index];
+        heights[index] = height;
+        for (int i = index + 1; i < sums.length; i += i & -i)
+            sums[i] += delta;
+    }
+
+    /**
+     * @param index Index of a row, can be equal to the number of rows
+     * @return The sum of the heights of the rows before the given one
+     */
+    double offsetOf(int index)
+    {
+        double offset = 0;
+        for (int i = index; i > 0; i -= i & -i)
+            offset += sums[i];
+
+        return offset;
+    }
+
+    double total()
+    {
+        return offsetOf(heights.length);
+    }
+
+    /**
+     * @param offset An offset from the top of the list
+     * @return The index of the row at the given offset, the last row if the offset is after the
+     * end of the list
+     */
+    int indexAt(double offset)
+    {
+        int index = 0;
+        double remaining = offset;
+        for (int step = Integer.highestOneBit(heights.length); step > 0; step >>= 1)
+        {
+            int next = index + step;
+            if (next < sums.length && sums[next] <= remaining)
+            {
+                index = next;
+                remaining -= sums[next];
+            }
+        }
+
+        return Math.max(0, Math.min(index, heights.length - 1));
+    }
+
+    /**
+     * Return a new index with the rows removed and added by a change of the List, the rows after
+     * the change keep their height.
+     * @param index Index of the change
+     * @param removedCount Number of rows removed
+     * @param addedCount Number of rows added
+     * @param estimatedHeight Height of the added rows
+     * @return The new index
+     */
+    HeightIndex splice(int index, int removedCount, int addedCount, double estimatedHeight)
+    {
+        double[] newHeights = new double[heights.length - removedCount + addedCount];
+        System.arraycopy(heights, 0, newHeights, 0, index);
+        for (int i = 0; i < addedCount; i++)
+            newHeights[index + i] = estimatedHeight;
+
+        System.arraycopy(heights,
+            index + removedCount,
+            newHeights,
+            index + addedCount,
+            heights.length - index - removedCount);
+
+        return new HeightIndex(newHeights);
+    }
+}
@@ -0,0 +1,354 @@
+package com.axellience.vuegwt.client.component.virtuallist;
+
+import com.axellience.vuegwt.client.component.HasRender;
+import com.axellience.vuegwt.client.component.VueComponent;
+import com.axellience.vuegwt.client.component.hooks.HasBeforeDestroy;
+import com.axellience.vuegwt.client.component.hooks.HasMounted;
+import com.axellience.vuegwt.client.component.hooks.HasUpdated;
+import com.axellience.vuegwt.client.jsnative.jstypes.JsArray;
+import com.axellience.vuegwt.client.observer.ListChange;
+import com.axellience.vuegwt.client.observer.ListChangeListener;
+import com.axellience.vuegwt.client.observer.VueGWTObserverManager;
+import com.axellience.vuegwt.client.vnode.VNode;
+import com.axellience.vuegwt.client.vnode.VNodeData;
+import com.axellience.vuegwt.client.vnode.builder.VNodeBuilder;
+import com.google.gwt.dom.client.Element;
+import jsinterop.annotations.JsProperty;
+
+import java.util.List;
+
+/**
+ * A Component displaying a large list by only rendering the items visible in its viewport, plus a
+ * buffer of items before and after them.
+ * <br>
+ * The items can be a {@link List} or a {@link JsArray}. Any other indexed source can be wrapped in
+ * an {@link java.util.AbstractList}. Each item is rendered by the renderItem Java function:
+ * <pre>
+ * &lt;virtual-list :items="todos" :item-height="32" :render-item="todoRenderer"
+ *     style="height: 400px"&gt;&lt;/virtual-list&gt;
+ * </pre>
+ * If itemHeight is set all the rows have this height. Otherwise rows are measured once rendered,
+ * and rows never rendered use the estimatedItemHeight.
+ * <br>
+ * As only the visible items are read, only those are observed by Vue GWT. Changes made to the list
+ * update the view like for v-for.
+ * <br>
+ * The library is not processed by the annotation processor, the {@link VirtualListComponentJsType}
+ * and {@link VirtualListComponentFactory} generated for other Components are written by hand.
+ */
+public class VirtualListComponent extends VueComponent
+    implements HasRender, HasMounted, HasUpdated, HasBeforeDestroy
+{
+    private static final int DEFAULT_BUFFER = 10;
+    private static final int DEFAULT_ESTIMATED_ITEM_HEIGHT = 40;
+
+    /**
+     * The items to display, a {@link List} or a {@link JsArray}.
+     */
+    @JsProperty Object items;
+
+    /**
+     * Height of every row in px. If 0 the height of the rows is measured.
+     */
+    @JsProperty int itemHeight;
+
+    /**
+     * Height in px used for the rows that have not been measured yet.
+     */
+    @JsProperty int estimatedItemHeight;
+
+    /**
+     * Number of items rendered before and after the visible ones.
+     */
+    @JsProperty int buffer;
+
+    @JsProperty VirtualListItemRenderer renderItem;
+
+    /**
+     * Give the key of each row. If not set the index of the item is used.
+     */
+    @JsProperty VirtualListKeyProvider itemKey;
+
+    @JsProperty int startIndex = 0;
+    @JsProperty int endIndex = 0;
+
+    private HeightIndex heightIndex;
+    private int renderedStartIndex;
+    private List observedList;
+    private ListChangeListener listChangeListener;
+
+    int itemHeightDefault()
+    {
+        return 0;
+    }
+
+    int estimatedItemHeightDefault()
+    {
+        return DEFAULT_ESTIMATED_ITEM_HEIGHT;
+    }
+
+    int bufferDefault()
+    {
+        return DEFAULT_BUFFER;
+    }
+
+    @Override
+    public VNode render(VNodeBuilder builder)
+    {
+        int size = getItemsCount();
+        updateHeightIndex(size);
+
+        int start = Math.min(startIndex, size);
+        int end = Math.max(start, Math.min(endIndex, size));
+        renderedStartIndex = start;
+
+        Object[] rows = new Object[end - start];
+        for (int index = start; index < end; index++)
+            rows[index - start] = renderRow(builder, index);
+
+        VNode spacer = builder.el("div",
+            VNodeData.get().addStaticStyle("height", getTotalHeight() + "px"));
+
+        VNode rowsContainer = builder.el("div",
+            VNodeData
+                .get()
+                .addStaticStyle("position", "absolute")
+                .addStaticStyle("top", "0")
+                .addStaticStyle("left", "0")
+                .addStaticStyle("right", "0")
+                .addStaticStyle("transform", "translateY(" + getOffsetOf(start) + "px)"),
+            rows);
+
+        return builder.el("div",
+            VNodeData
+                .get()
+                .addStaticStyle("overflow-y", "auto")
+                .addStaticStyle("position", "relative")
+                .on("scroll", event -> updateVisibleRange()),
+            spacer,
+            rowsContainer);
+    }
+
+    private VNode renderRow(VNodeBuilder builder, int index)
+    {
+        Object item = getItem(index);
+
+        VNodeData data = VNodeData.get();
+        if (itemKey != null)
+            data.setKey(itemKey.getKey(item, index));
+        else
+            data.setKey(index);
+
+        if (isFixedHeight())
+        {
+            data.addStaticStyle("height", itemHeight + "px");
+            data.addStaticStyle("overflow", "hidden");
+        }
+
+        return builder.el("div", data, renderItem.render(builder, item, index));
+    }
+
+    @Override
+    public void mounted()
+    {
+        updateVisibleRange();
+        listenToListChanges();
+    }
+
+    @Override
+    public void updated()
+    {
+        measureRows();
+        updateVisibleRange();
+        listenToListChanges();
+    }
+
+    @Override
+    public void beforeDestroy()
+    {
+        stopListeningToListChanges();
+    }
+
+    /**
+     * Scroll the list so the item at the given index is at the top of the viewport.
+     * @param index Index of the item
+     */
+    public void scrollToIndex(int index)
+    {
+        int size = getItemsCount();
+        if (size == 0)
+            return;
+
+        $el().setScrollTop((int) getOffsetOf(Math.max(0, Math.min(index, size - 1))));
+        updateVisibleRange();
+    }
+
+    /**
+     * Forget the measured heights of the rows, for example after the items changed size.
+     */
+    public void refresh()
+    {
+        heightIndex = null;
+        $forceUpdate();
+    }
+
+    /**
+     * Choose the items to render from the scroll position.
+     * The range only changes once the user scrolled through half the buffer, so scrolling doesn't
+     * render on every scroll event.
+     */
+    private void updateVisibleRange()
+    {
+        Element element = $el();
+        int size = getItemsCount();
+        if (size == 0)
+        {
+            startIndex = 0;
+            endIndex = 0;
+            return;
+        }
+
+        int top = element.getScrollTop();
+        int first = getIndexAt(top);
+        int last = getIndexAt(top + element.getClientHeight());
+
+        int halfBuffer = buffer / 2;
+        int visibleCount = last - first + 1;
+        boolean isVisibleRangeRendered = startIndex <= Math.max(0, first - halfBuffer)
+            && endIndex >= Math.min(size, last + 1 + halfBuffer)
+            && endIndex - startIndex <= visibleCount + 3 * buffer;
+        if (isVisibleRangeRendered)
+            return;
+
+        startIndex = Math.max(0, first - buffer);
+        endIndex = Math.min(size, last + 1 + buffer);
+    }
+
+    /**
+     * Measure the rendered rows, and render again if their height is not the one we used.
+     */
+    private void measureRows()
+    {
+        if (heightIndex == null)
+            return;
+
+        Element rowsContainer = Element.as($el().getChild(1));
+        boolean hasChanged = false;
+        int count = rowsContainer.getChildCount();
+        for (int i = 0; i < count; i++)
+        {
+            int index = renderedStartIndex + i;
+            if (index >= heightIndex.size())
+                break;
+
+            int height = Element.as(rowsContainer.getChild(i)).getOffsetHeight();
+            if (height > 0 && height != heightIndex.get(index))
+            {
+                heightIndex.set(index, height);
+                hasChanged = true;
+            }
+        }
+
+        if (hasChanged)
+            $forceUpdate();
+    }
+
+    private boolean isFixedHeight()
+    {
+        return itemHeight > 0;
+    }
+
+    private void updateHeightIndex(int size)
+    {
+        if (isFixedHeight())
+            heightIndex = null;
+        else if (heightIndex == null || heightIndex.size() != size)
+            heightIndex = new HeightIndex(size, estimatedItemHeight, heightIndex);
+    }
+
+    private double getOffsetOf(int index)
+    {
+        if (heightIndex == null)
+            return (double) index * itemHeight;
+
+        return heightIndex.offsetOf(index);
+    }
+
+    private double getTotalHeight()
+    {
+        return getOffsetOf(getItemsCount());
+    }
+
+    private int getIndexAt(int offset)
+    {
+        if (heightIndex == null)
+            return Math.min(offset / itemHeight, getItemsCount() - 1);
+
+        return heightIndex.indexAt(offset);
+    }
+
+    private int getItemsCount()
+    {
+        if (items instanceof List)
+            return ((List) items).size();
+
+        if (items instanceof JsArray)
+            return ((JsArray) items).length;
+
+        return 0;
+    }
+
+    private Object getItem(int index)
+    {
+        if (items instanceof List)
+            return ((List) items).get(index);
+
+        return ((JsArray) items).get(index);
+    }
+
+    /**
+     * When the heights are measured, keep them in sync with the List changes.
+     * Otherwise adding an item at the top would shift all the measured heights.
+     */
+    private void listenToListChanges()
+    {
+        Object listToObserve = isFixedHeight() ? null : items;
+        if (listToObserve == observedList)
+            return;
+
+        stopListeningToListChanges();
+        if (!(listToObserve instanceof List)
+            || VueGWTObserverManager.getVueObserver(listToObserve) == null)
+            return;
+
+        if (listChangeListener == null)
+            listChangeListener = this::onListChange;
+
+        observedList = (List) listToObserve;
+        VueGWTObserverManager.addListChangeListener(observedList, listChangeListener);
+    }
+
+    private void stopListeningToListChanges()
+    {
+        if (observedList == null)
+            return;
+
+        VueGWTObserverManager.removeListChangeListener(observedList, listChangeListener);
+        observedList = null;
+    }
+
+    private void onListChange(List list, ListChange change)
+    {
+        if (heightIndex == null)
+            return;
+
+        int previousSize = list.size() - change.getAddedItems().size() + change.getRemovedCount();
+        if (change.isReset() || heightIndex.size() != previousSize)
+            heightIndex = null;
+        else
+            heightIndex = heightIndex.splice(change.getIndex(),
+                change.getRemovedCount(),
+                change.getAddedItems().size(),
+                estimatedItemHeight);
+    }
+}
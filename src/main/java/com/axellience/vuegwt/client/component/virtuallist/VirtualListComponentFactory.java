@@ -0,0 +1,34 @@
+package com.axellience.vuegwt.client.component.virtuallist;
+
+import com.axellience.vuegwt.client.Vue;
+import com.axellience.vuegwt.client.vue.VueFactory;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * VueFactory for Component {@link VirtualListComponent}.
+ * To use it in your Components, add it to their local components:
+ * {@code @Component(components = VirtualListComponent.class)}.
+ */
+@Singleton
+public final class VirtualListComponentFactory extends VueFactory<VirtualListComponent>
+{
+    private static VirtualListComponentFactory INSTANCE;
+
+    @Inject
+    private void init()
+    {
+        jsConstructor = Vue.extendJavaComponent(VirtualListComponentJsType.getOptions());
+    }
+
+    public static VirtualListComponentFactory get()
+    {
+        if (INSTANCE == null)
+        {
+            INSTANCE = new VirtualListComponentFactory();
+            INSTANCE.init();
+        }
+        return INSTANCE;
+    }
+}
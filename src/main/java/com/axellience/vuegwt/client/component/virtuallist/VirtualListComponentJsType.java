@@ -0,0 +1,78 @@
+package com.axellience.vuegwt.client.component.virtuallist;
+
+import com.axellience.vuegwt.client.VueGWT;
+import com.axellience.vuegwt.client.component.options.VueComponentOptions;
+import com.axellience.vuegwt.client.tools.JsTools;
+import com.axellience.vuegwt.client.vnode.VNode;
+import com.axellience.vuegwt.client.vnode.builder.CreateElementFunction;
+import com.axellience.vuegwt.client.vnode.builder.VNodeBuilder;
+import jsinterop.annotations.JsType;
+
+/**
+ * Exposes {@link VirtualListComponent} to Vue, like the JsType generated for other Components.
+ */
+@JsType(namespace = "VueGWT.javaComponentConstructors",
+    name = "com_axellience_vuegwt_client_component_virtuallist_VirtualListComponent")
+public class VirtualListComponentJsType extends VirtualListComponent
+{
+    static
+    {
+        VueGWT.onReady(() -> VueGWT.register(
+            "com.axellience.vuegwt.client.component.virtuallist.VirtualListComponent",
+            () -> VirtualListComponentFactory.get()));
+    }
+
+    public boolean vuegwt$hrc_0;
+
+    public void vuegwt$created()
+    {
+        if (vuegwt$hrc_0)
+            return;
+        vuegwt$hrc_0 = true;
+
+        Object javaConstructor = VueGWT.getJavaConstructor(VirtualListComponent.class);
+        JsTools.call(javaConstructor, this);
+    }
+
+    public VNode vuegwt$render(CreateElementFunction createElementFunction)
+    {
+        return super.render(new VNodeBuilder(this, createElementFunction));
+    }
+
+    public int itemHeightDefault()
+    {
+        return super.itemHeightDefault();
+    }
+
+    public int estimatedItemHeightDefault()
+    {
+        return super.estimatedItemHeightDefault();
+    }
+
+    public int bufferDefault()
+    {
+        return super.bufferDefault();
+    }
+
+    public static VueComponentOptions<VirtualListComponent> getOptions()
+    {
+        VueComponentOptions<VirtualListComponent> options = new VueComponentOptions<>();
+        options.setComponentJavaConstructor(VueGWT.getJavaConstructor(VirtualListComponent.class));
+        options.initData(true, "startIndex", "endIndex");
+        options.addJavaProp("items", true, null);
+        options.addJavaProp("itemHeight", false, "Number");
+        options.addJavaPropDefaultValue("itemHeightDefault", "itemHeight");
+        options.addJavaProp("estimatedItemHeight", false, "Number");
+        options.addJavaPropDefaultValue("estimatedItemHeightDefault", "estimatedItemHeight");
+        options.addJavaProp("buffer", false, "Number");
+        options.addJavaPropDefaultValue("bufferDefault", "buffer");
+        options.addJavaProp("renderItem", true, "Function");
+        options.addJavaProp("itemKey", false, "Function");
+        options.addHookMethod("mounted");
+        options.addHookMethod("updated");
+        options.addHookMethod("beforeDestroy");
+        options.addHookMethod("render", "vuegwt$render");
+        options.addHookMethod("created", "vuegwt$created");
+        return options;
+    }
+}
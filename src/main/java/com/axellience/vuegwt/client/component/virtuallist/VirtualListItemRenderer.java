@@ -0,0 +1,22 @@
+package com.axellience.vuegwt.client.component.virtuallist;
+
+import com.axellience.vuegwt.client.vnode.VNode;
+import com.axellience.vuegwt.client.vnode.builder.VNodeBuilder;
+import jsinterop.annotations.JsFunction;
+
+/**
+ * Render one item of a {@link VirtualListComponent}.
+ */
+@FunctionalInterface
+@JsFunction
+public interface VirtualListItemRenderer
+{
+    /**
+     * Render the given item.
+     * @param builder The {@link VNodeBuilder} of the list
+     * @param item The item to render
+     * @param index The index of the item in the list
+     * @return The VNode for the item
+     */
+    VNode render(VNodeBuilder builder, Object item, int index);
+}
@@ -0,0 +1,21 @@
+package com.axellience.vuegwt.client.component.virtuallist;
+
+import jsinterop.annotations.JsFunction;
+
+/**
+ * Give the key of an item of a {@link VirtualListComponent}.
+ * Like for v-for, keys let Vue move the rendered rows instead of patching them when items are
+ * added or removed.
+ */
+@FunctionalInterface
+@JsFunction
+public interface VirtualListKeyProvider
+{
+    /**
+     * Return the key for the given item, it must be unique in the list.
+     * @param item The item
+     * @param index The index of the item in the list
+     * @return The key of the item
+     */
+    String getKey(Object item, int index);
+}
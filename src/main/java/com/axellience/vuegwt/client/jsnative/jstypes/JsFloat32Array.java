@@ -0,0 +1,63 @@
+package com.axellience.vuegwt.client.jsnative.jstypes;
+
+import com.axellience.vuegwt.client.observer.vuegwtobservers.TypedArrayObserver;
+import jsinterop.annotations.JsOverlay;
+import jsinterop.annotations.JsPackage;
+import jsinterop.annotations.JsType;
+
+/**
+ * A JS Float32Array, an array of float stored without boxing.
+ * <br>
+ * Create it with {@link #create(int)} or {@link #from(float...)} so it's observable as soon as it's
+ * added to a Component. See {@link JsTypedArray} for how it's observed.
+ */
+@JsType(isNative = true, namespace = JsPackage.GLOBAL, name = "Float32Array")
+public class JsFloat32Array extends JsTypedArray<JsFloat32Array>
+{
+    private JsFloat32Array(int length)
+    {
+    }
+
+    @JsOverlay
+    public static JsFloat32Array create(int length)
+    {
+        return TypedArrayObserver.observe(new JsFloat32Array(length));
+    }
+
+    @JsOverlay
+    public static JsFloat32Array from(float... values)
+    {
+        JsFloat32Array typedArray = new JsFloat32Array(values.length);
+        typedArray.copyFrom(values, 0);
+        return TypedArrayObserver.observe(typedArray);
+    }
+
+    @JsOverlay
+    public final float get(int index)
+    {
+        return (float) getValue(index);
+    }
+
+    @JsOverlay
+    public final void set(int index, float value)
+    {
+        setValue(index, value);
+    }
+
+    /**
+     * Copy the given values in this array, starting at the given offset.
+     * @param values The values to copy
+     * @param offset The index of the first element to set
+     */
+    @JsOverlay
+    public final void setValues(float[] values, int offset)
+    {
+        setValuesFrom(values, offset);
+    }
+
+    @JsOverlay
+    public final JsFloat32Array fill(float value, int start, int end)
+    {
+        return fillValues(value, start, end);
+    }
+}
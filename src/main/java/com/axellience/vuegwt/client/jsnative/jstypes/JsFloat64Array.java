@@ -0,0 +1,63 @@
+package com.axellience.vuegwt.client.jsnative.jstypes;
+
+import com.axellience.vuegwt.client.observer.vuegwtobservers.TypedArrayObserver;
+import jsinterop.annotations.JsOverlay;
+import jsinterop.annotations.JsPackage;
+import jsinterop.annotations.JsType;
+
+/**
+ * A JS Float64Array, an array of double stored without boxing.
+ * <br>
+ * Create it with {@link #create(int)} or {@link #from(double...)} so it's observable as soon as it's
+ * added to a Component. See {@link JsTypedArray} for how it's observed.
+ */
+@JsType(isNative = true, namespace = JsPackage.GLOBAL, name = "Float64Array")
+public class JsFloat64Array extends JsTypedArray<JsFloat64Array>
+{
+    private JsFloat64Array(int length)
+    {
+    }
+
+    @JsOverlay
+    public static JsFloat64Array create(int length)
+    {
+        return TypedArrayObserver.observe(new JsFloat64Array(length));
+    }
+
+    @JsOverlay
+    public static JsFloat64Array from(double... values)
+    {
+        JsFloat64Array typedArray = new JsFloat64Array(values.length);
+        typedArray.copyFrom(values, 0);
+        return TypedArrayObserver.observe(typedArray);
+    }
+
+    @JsOverlay
+    public final double get(int index)
+    {
+        return getValue(index);
+    }
+
+    @JsOverlay
+    public final void set(int index, double value)
+    {
+        setValue(index, value);
+    }
+
+    /**
+     * Copy the given values in this array, starting at the given offset.
+     * @param values The values to copy
+     * @param offset The index of the first element to set
+     */
+    @JsOverlay
+    public final void setValues(double[] values, int offset)
+    {
+        setValuesFrom(values, offset);
+    }
+
+    @JsOverlay
+    public final JsFloat64Array fill(double value, int start, int end)
+    {
+        return fillValues(value, start, end);
+    }
+}
@@ -0,0 +1,63 @@
+package com.axellience.vuegwt.client.jsnative.jstypes;
+
+import com.axellience.vuegwt.client.observer.vuegwtobservers.TypedArrayObserver;
+import jsinterop.annotations.JsOverlay;
+import jsinterop.annotations.JsPackage;
+import jsinterop.annotations.JsType;
+
+/**
+ * A JS Int32Array, an array of int stored without boxing.
+ * <br>
+ * Create it with {@link #create(int)} or {@link #from(int...)} so it's observable as soon as it's
+ * added to a Component. See {@link JsTypedArray} for how it's observed.
+ */
+@JsType(isNative = true, namespace = JsPackage.GLOBAL, name = "Int32Array")
+public class JsInt32Array extends JsTypedArray<JsInt32Array>
+{
+    private JsInt32Array(int length)
+    {
+    }
+
+    @JsOverlay
+    public static JsInt32Array create(int length)
+    {
+        return TypedArrayObserver.observe(new JsInt32Array(length));
+    }
+
+    @JsOverlay
+    public static JsInt32Array from(int... values)
+    {
+        JsInt32Array typedArray = new JsInt32Array(values.length);
+        typedArray.copyFrom(values, 0);
+        return TypedArrayObserver.observe(typedArray);
+    }
+
+    @JsOverlay
+    public final int get(int index)
+    {
+        return (int) getValue(index);
+    }
+
+    @JsOverlay
+    public final void set(int index, int value)
+    {
+        setValue(index, value);
+    }
+
+    /**
+     * Copy the given values in this array, starting at the given offset.
+     * @param values The values to copy
+     * @param offset The index of the first element to set
+     */
+    @JsOverlay
+    public final void setValues(int[] values, int offset)
+    {
+        setValuesFrom(values, offset);
+    }
+
+    @JsOverlay
+    public final JsInt32Array fill(int value, int start, int end)
+    {
+        return fillValues(value, start, end);
+    }
+}
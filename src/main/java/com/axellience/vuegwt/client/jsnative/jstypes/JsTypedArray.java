@@ -0,0 +1,131 @@
+package com.axellience.vuegwt.client.jsnative.jstypes;
+
+import com.axellience.vuegwt.client.observer.vuegwtobservers.TypedArrayObserver;
+import jsinterop.annotations.JsMethod;
+import jsinterop.annotations.JsOverlay;
+import jsinterop.annotations.JsPackage;
+import jsinterop.annotations.JsType;
+
+/**
+ * The methods shared by all the JS typed arrays, an array of numbers stored without boxing.
+ * <br>
+ * It's reactive as a whole: its elements are not observed one by one, reading any element
+ * depends on the whole array and changing it updates everything that depends on it.
+ * Methods changing several elements (setValues, fill...) update the view once.
+ * <br>
+ * Typed arrays have no common constructor in JS, each subclass is bound to its own (Float64Array,
+ * Int32Array...) and only adds the methods depending on the type of its elements.
+ * @param <T> The type of the typed array
+ */
+@JsType(isNative = true, namespace = JsPackage.GLOBAL, name = "Object")
+public abstract class JsTypedArray<T extends JsTypedArray<T>>
+{
+    public int length;
+
+    @JsOverlay
+    public final T copyWithin(int target, int start, int end)
+    {
+        copyRange(target, start, end);
+        return notifyRangeChange();
+    }
+
+    @JsOverlay
+    public final T sort()
+    {
+        sortValues();
+        return notifyRangeChange();
+    }
+
+    @JsOverlay
+    public final T reverse()
+    {
+        reverseValues();
+        return notifyRangeChange();
+    }
+
+    /**
+     * Notify Vue that this array changed.
+     * Call it after changing the array without going through this class, for example from a JS
+     * library.
+     */
+    @JsOverlay
+    public final void notifyChange()
+    {
+        TypedArrayObserver.notifyChange(this);
+    }
+
+    /**
+     * Return a new array sharing the same buffer, changes made through it won't update the view.
+     * @param begin The index of the first element
+     * @param end The index after the last element
+     * @return A view on this array
+     */
+    public native T subarray(int begin, int end);
+
+    /**
+     * Return a copy of a range of this array, the copy is not observed.
+     * @param begin The index of the first element
+     * @param end The index after the last element
+     * @return A copy of the range
+     */
+    public native T slice(int begin, int end);
+
+    @JsOverlay
+    protected final double getValue(int index)
+    {
+        return TypedArrayObserver.get(this, index);
+    }
+
+    @JsOverlay
+    protected final void setValue(int index, double value)
+    {
+        TypedArrayObserver.set(this, index, value);
+    }
+
+    /**
+     * Copy the given Java array in this array, starting at the given offset.
+     * @param values A Java array of numbers
+     * @param offset The index of the first element to set
+     * @return This array
+     */
+    @JsOverlay
+    protected final T setValuesFrom(Object values, int offset)
+    {
+        copyFrom(values, offset);
+        return notifyRangeChange();
+    }
+
+    @JsOverlay
+    protected final T fillValues(double value, int start, int end)
+    {
+        fillRange(value, start, end);
+        return notifyRangeChange();
+    }
+
+    /**
+     * Methods changing a range of elements notify Vue once, after the change.
+     * @return This array
+     */
+    @JsOverlay
+    @SuppressWarnings("unchecked")
+    private T notifyRangeChange()
+    {
+        TypedArrayObserver.notifyChange(this);
+        return (T) this;
+    }
+
+    @JsMethod(name = "set")
+    protected native void copyFrom(Object values, int offset);
+
+    @JsMethod(name = "fill")
+    private native void fillRange(double value, int start, int end);
+
+    @JsMethod(name = "copyWithin")
+    private native void copyRange(int target, int start, int end);
+
+    @JsMethod(name = "sort")
+    private native void sortValues();
+
+    @JsMethod(name = "reverse")
+    private native void reverseValues();
+}
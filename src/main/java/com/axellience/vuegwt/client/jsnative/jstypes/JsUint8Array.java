@@ -0,0 +1,63 @@
+package com.axellience.vuegwt.client.jsnative.jstypes;
+
+import com.axellience.vuegwt.client.observer.vuegwtobservers.TypedArrayObserver;
+import jsinterop.annotations.JsOverlay;
+import jsinterop.annotations.JsPackage;
+import jsinterop.annotations.JsType;
+
+/**
+ * A JS Uint8Array, an array of int between 0 and 255 stored without boxing.
+ * <br>
+ * Create it with {@link #create(int)} or {@link #from(int...)} so it's observable as soon as it's
+ * added to a Component. See {@link JsTypedArray} for how it's observed.
+ */
+@JsType(isNative = true, namespace = JsPackage.GLOBAL, name = "Uint8Array")
+public class JsUint8Array extends JsTypedArray<JsUint8Array>
+{
+    private JsUint8Array(int length)
+    {
+    }
+
+    @JsOverlay
+    public static JsUint8Array create(int length)
+    {
+        return TypedArrayObserver.observe(new JsUint8Array(length));
+    }
+
+    @JsOverlay
+    public static JsUint8Array from(int... values)
+    {
+        JsUint8Array typedArray = new JsUint8Array(values.length);
+        typedArray.copyFrom(values, 0);
+        return TypedArrayObserver.observe(typedArray);
+    }
+
+    @JsOverlay
+    public final int get(int index)
+    {
+        return (int) getValue(index);
+    }
+
+    @JsOverlay
+    public final void set(int index, int value)
+    {
+        setValue(index, value);
+    }
+
+    /**
+     * Copy the given values in this array, starting at the given offset.
+     * @param values The values to copy
+     * @param offset The index of the first element to set
+     */
+    @JsOverlay
+    public final void setValues(int[] values, int offset)
+    {
+        setValuesFrom(values, offset);
+    }
+
+    @JsOverlay
+    public final JsUint8Array fill(int value, int start, int end)
+    {
+        return fillValues(value, start, end);
+    }
+}
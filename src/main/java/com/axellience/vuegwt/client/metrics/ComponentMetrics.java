@@ -0,0 +1,93 @@
+package com.axellience.vuegwt.client.metrics;
+
+import jsinterop.annotations.JsOverlay;
+import jsinterop.annotations.JsPackage;
+import jsinterop.annotations.JsProperty;
+import jsinterop.annotations.JsType;
+
+/**
+ * Metrics of all the measured instances of a Component.
+ * Components are identified by their name, or by the tag used to include them.
+ * Times are in milliseconds, and include the time spent in child Components.
+ */
+@JsType(isNative = true, namespace = JsPackage.GLOBAL, name = "Object")
+public class ComponentMetrics
+{
+    @JsProperty private String name;
+    @JsProperty private int instanceCount;
+    @JsProperty private int initCount;
+    @JsProperty private double initTime;
+    @JsProperty private double initMaxTime;
+    @JsProperty private int renderCount;
+    @JsProperty private double renderTime;
+    @JsProperty private double renderMaxTime;
+    @JsProperty private int patchCount;
+    @JsProperty private double patchTime;
+    @JsProperty private double patchMaxTime;
+
+    @JsOverlay
+    public final String getName()
+    {
+        return name;
+    }
+
+    @JsOverlay
+    public final int getInstanceCount()
+    {
+        return instanceCount;
+    }
+
+    @JsOverlay
+    public final int getInitCount()
+    {
+        return initCount;
+    }
+
+    @JsOverlay
+    public final double getInitTime()
+    {
+        return initTime;
+    }
+
+    @JsOverlay
+    public final double getInitMaxTime()
+    {
+        return initMaxTime;
+    }
+
+    @JsOverlay
+    public final int getRenderCount()
+    {
+        return renderCount;
+    }
+
+    @JsOverlay
+    public final double getRenderTime()
+    {
+        return renderTime;
+    }
+
+    @JsOverlay
+    public final double getRenderMaxTime()
+    {
+        return renderMaxTime;
+    }
+
+    @JsOverlay
+    public final int getPatchCount()
+    {
+        return patchCount;
+    }
+
+    @JsOverlay
+    public final double getPatchTime()
+    {
+        return patchTime;
+    }
+
+    @JsOverlay
+    public final double getPatchMaxTime()
+    {
+        return patchMaxTime;
+    }
+}
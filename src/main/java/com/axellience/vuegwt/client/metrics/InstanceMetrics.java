@@ -0,0 +1,67 @@
+package com.axellience.vuegwt.client.metrics;
+
+import jsinterop.annotations.JsOverlay;
+import jsinterop.annotations.JsPackage;
+import jsinterop.annotations.JsProperty;
+import jsinterop.annotations.JsType;
+
+/**
+ * Metrics of a measured Component instance, kept until the instance is destroyed.
+ * Times are in milliseconds, and include the time spent in child Components.
+ */
+@JsType(isNative = true, namespace = JsPackage.GLOBAL, name = "Object")
+public class InstanceMetrics
+{
+    @JsProperty private int id;
+    @JsProperty private String componentName;
+    @JsProperty private double initTime;
+    @JsProperty private int renderCount;
+    @JsProperty private double renderTime;
+    @JsProperty private int patchCount;
+    @JsProperty private double patchTime;
+
+    /**
+     * @return The unique id Vue gave to the instance
+     */
+    @JsOverlay
+    public final int getId()
+    {
+        return id;
+    }
+
+    @JsOverlay
+    public final String getComponentName()
+    {
+        return componentName;
+    }
+
+    @JsOverlay
+    public final double getInitTime()
+    {
+        return initTime;
+    }
+
+    @JsOverlay
+    public final int getRenderCount()
+    {
+        return renderCount;
+    }
+
+    @JsOverlay
+    public final double getRenderTime()
+    {
+        return renderTime;
+    }
+
+    @JsOverlay
+    public final int getPatchCount()
+    {
+        return patchCount;
+    }
+
+    @JsOverlay
+    public final double getPatchTime()
+    {
+        return patchTime;
+    }
+}
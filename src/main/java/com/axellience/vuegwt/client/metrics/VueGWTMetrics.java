@@ -0,0 +1,129 @@
+package com.axellience.vuegwt.client.metrics;
+
+import com.axellience.vuegwt.client.jsnative.jstypes.JsArray;
+import jsinterop.annotations.JsMethod;
+
+/**
+ * Record how long Components take to init, render and patch, and how many times they do it.
+ * <br>
+ * Unlike the performance option of the Vue config, this works with the production build of
+ * Vue.js. Only a sample of the instances can be measured to keep the overhead low:
+ * <pre>
+ * VueGWT.getMetrics().enable(0.1);
+ * ...
+ * String report = VueGWT.getMetrics().toJSON();
+ * </pre>
+ * Metrics are aggregated in memory by Component, and kept for each instance until it's
+ * destroyed. They can also be added to the browser performance timeline using User Timing.
+ */
+public final class VueGWTMetrics
+{
+    private static final VueGWTMetrics INSTANCE = new VueGWTMetrics();
+
+    private VueGWTMetrics()
+    {
+    }
+
+    public static VueGWTMetrics get()
+    {
+        return INSTANCE;
+    }
+
+    /**
+     * Measure all the instances created from now on.
+     */
+    public void enable()
+    {
+        enable(1, false);
+    }
+
+    /**
+     * Measure a sample of the instances created from now on.
+     * @param sampleRate The probability for each instance to be measured, between 0 and 1
+     */
+    public void enable(double sampleRate)
+    {
+        enable(sampleRate, false);
+    }
+
+    /**
+     * Measure a sample of the instances created from now on.
+     * @param sampleRate The probability for each instance to be measured, between 0 and 1
+     * @param useUserTiming If true, each init, render and patch is also added to the browser
+     * performance timeline
+     */
+    public void enable(double sampleRate, boolean useUserTiming)
+    {
+        if (sampleRate < 0 || sampleRate > 1)
+            throw new IllegalArgumentException("The sample rate must be between 0 and 1, got: "
+                + sampleRate);
+
+        nativeEnable(sampleRate, useUserTiming);
+    }
+
+    /**
+     * Stop measuring. Metrics recorded so far are kept.
+     */
+    public void disable()
+    {
+        nativeDisable();
+    }
+
+    public boolean isEnabled()
+    {
+        return nativeIsEnabled();
+    }
+
+    /**
+     * Forget all the metrics recorded so far.
+     */
+    public void reset()
+    {
+        nativeReset();
+    }
+
+    /**
+     * @return The metrics of each Component that had a measured instance
+     */
+    public JsArray<ComponentMetrics> getComponentsMetrics()
+    {
+        return nativeGetComponentsMetrics();
+    }
+
+    /**
+     * @return The metrics of each measured instance still alive
+     */
+    public JsArray<InstanceMetrics> getInstancesMetrics()
+    {
+        return nativeGetInstancesMetrics();
+    }
+
+    /**
+     * @return All the metrics as a JSON String, to send them to your server
+     */
+    public String toJSON()
+    {
+        return nativeToJSON();
+    }
+
+    @JsMethod(namespace = "VueGWT.metrics", name = "enable")
+    private static native void nativeEnable(double sampleRate, boolean useUserTiming);
+
+    @JsMethod(namespace = "VueGWT.metrics", name = "disable")
+    private static native void nativeDisable();
+
+    @JsMethod(namespace = "VueGWT.metrics", name = "isEnabled")
+    private static native boolean nativeIsEnabled();
+
+    @JsMethod(namespace = "VueGWT.metrics", name = "reset")
+    private static native void nativeReset();
+
+    @JsMethod(namespace = "VueGWT.metrics", name = "getComponentsMetrics")
+    private static native JsArray<ComponentMetrics> nativeGetComponentsMetrics();
+
+    @JsMethod(namespace = "VueGWT.metrics", name = "getInstancesMetrics")
+    private static native JsArray<InstanceMetrics> nativeGetInstancesMetrics();
+
+    @JsMethod(namespace = "VueGWT.metrics", name = "toJSON")
+    private static native String nativeToJSON();
+}
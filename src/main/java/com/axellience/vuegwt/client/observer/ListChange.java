@@ -0,0 +1,69 @@
+package com.axellience.vuegwt.client.observer;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A change made to an observed Java List, described as a splice: starting at {@link #getIndex()},
+ * {@link #getRemovedCount()} items were removed and {@link #getAddedItems()} were inserted.
+ * When the change can't be described this way (clear, removeAll...), the change is a reset and
+ * the whole List should be considered as changed.
+ */
+public final class ListChange
+{
+    private static final ListChange RESET = new ListChange(-1, 0, Collections.emptyList());
+
+    private final int index;
+    private final int removedCount;
+    private final List<Object> addedItems;
+
+    private ListChange(int index, int removedCount, List<Object> addedItems)
+    {
+        this.index = index;
+        this.removedCount = removedCount;
+        this.addedItems = addedItems;
+    }
+
+    public static ListChange splice(int index, int removedCount, Object... addedItems)
+    {
+        return new ListChange(index, removedCount, Arrays.asList(addedItems));
+    }
+
+    public static ListChange reset()
+    {
+        return RESET;
+    }
+
+    /**
+     * @return true if the whole List should be considered as changed
+     */
+    public boolean isReset()
+    {
+        return this == RESET;
+    }
+
+    /**
+     * @return The index of the first removed or added item, -1 for a reset
+     */
+    public int getIndex()
+    {
+        return index;
+    }
+
+    /**
+     * @return The number of items removed at {@link #getIndex()}
+     */
+    public int getRemovedCount()
+    {
+        return removedCount;
+    }
+
+    /**
+     * @return The items added at {@link #getIndex()}
+     */
+    public List<Object> getAddedItems()
+    {
+        return addedItems;
+    }
+}
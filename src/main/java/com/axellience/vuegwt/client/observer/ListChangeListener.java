@@ -0,0 +1,17 @@
+package com.axellience.vuegwt.client.observer;
+
+import java.util.List;
+
+/**
+ * Listen to the changes made on an observed Java List.
+ */
+@FunctionalInterface
+public interface ListChangeListener
+{
+    /**
+     * Called after each change on the List.
+     * @param list The List that changed
+     * @param change Description of the change
+     */
+    void onChange(List list, ListChange change);
+}
@@ -1,9 +1,17 @@
 package com.axellience.vuegwt.client.observer;
 
 /**
+ * A custom observer for Java objects that Vue can't observe on its own.
+ * The first observer to observe an instance of a given class is kept for all the next instances
+ * of that class, so whether an object is observed or not must only depend on its class.
  * @author Adrien Baron
  */
 public abstract class VueGWTObserver
 {
+    /**
+     * Observe the given object if it's handled by this observer.
+     * @param object The object to potentially observe
+     * @return true if the object has been observed, false otherwise
+     */
     public abstract boolean observe(Object object);
 }
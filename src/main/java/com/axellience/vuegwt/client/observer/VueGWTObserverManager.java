@@ -3,12 +3,17 @@ package com.axellience.vuegwt.client.observer;
 import com.axellience.vuegwt.client.jsnative.jstypes.JsArray;
 import com.axellience.vuegwt.client.observer.vuegwtobservers.CollectionObserver;
 import com.axellience.vuegwt.client.observer.vuegwtobservers.MapObserver;
+import com.axellience.vuegwt.client.observer.vuegwtobservers.PersistentCollectionObserver;
+import com.axellience.vuegwt.client.observer.vuegwtobservers.TypedArrayObserver;
 import com.axellience.vuegwt.client.tools.JsTools;
 import com.google.gwt.core.client.JavaScriptObject;
 import jsinterop.annotations.JsMethod;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * This class allow extension of the default Vue Observer.
@@ -19,24 +24,51 @@ import java.util.List;
  */
 public class VueGWTObserverManager
 {
+    /**
+     * JS namespace where the manifests of reactive fields generated for each ReactiveModel are
+     * exported.
+     */
+    public static final String REACTIVE_MODELS_NAMESPACE = "VueGWT.reactiveModels";
+
+    /**
+     * JS namespace where the markers generated for each NonReactive class are exported.
+     */
+    public static final String NON_REACTIVE_MODELS_NAMESPACE = "VueGWT.nonReactiveModels";
+
     private static List<VueGWTObserver> observers = new LinkedList<>();
 
+    /**
+     * The observer handling each Java class seen so far, or {@link #NO_OBSERVER} if none of them
+     * does. This way we only go through all the observers for the first instance of each class.
+     */
+    private static final Map<Class<?>, VueGWTObserver> observersByClass = new HashMap<>();
+    private static final VueGWTObserver NO_OBSERVER = new VueGWTObserver()
+    {
+        @Override
+        public boolean observe(Object object)
+        {
+            return false;
+        }
+    };
+
     static
     {
         registerVueGWTObserver(new CollectionObserver());
         registerVueGWTObserver(new MapObserver());
+        registerVueGWTObserver(new PersistentCollectionObserver());
     }
 
     /**
      * Register a {@link VueGWTObserver}.
      * This allow custom observation mechanism for Java Collection or other object that might
      * not be observable by the Vue observation mechanism.
-     * @param observer A {@link VueGWTObserver} that will be called for every object to potentially
-     * observe.
+     * @param observer A {@link VueGWTObserver} that will be called for the first object of each
+     * class to potentially observe, and then for every object of the classes it observes.
      */
     public static void registerVueGWTObserver(VueGWTObserver observer)
     {
         observers.add(0, observer);
+        observersByClass.clear();
     }
 
     /**
@@ -46,12 +78,17 @@ public class VueGWTObserverManager
      * properties reactive (for some reason), you should return true in your {@link VueGWTObserver}.
      * You are then responsible to call notifyDep on your object {@link VueObserver} and propagate
      * observation to the object property values.
+     * Other Java objects are walked by Vue GWT instead of Vue, to skip GWT internal properties.
      * @param object The object to potentially observe
      * @return true if we are observing and Vue shouldn't observe, false otherwise
      */
     @JsMethod(namespace = "VueGWT.observerManager")
     private static boolean observeJavaObject(Object object)
     {
+        // Typed arrays are observed as a whole, their elements are never walked
+        if (TypedArrayObserver.isTypedArray(object))
+            return true;
+
         // Ignore pure JS objects
         if (object.getClass() == JavaScriptObject.class)
             return false;
@@ -60,15 +97,175 @@ public class VueGWTObserverManager
         if (object instanceof Class)
             return true;
 
+        // Don't observe NonReactive classes
+        if (isNonReactiveClass(object))
+            return true;
+
         // Check if we have a custom Java observer
+        VueGWTObserver classObserver = observersByClass.get(object.getClass());
+        if (classObserver == null)
+        {
+            if (findObserver(object) != NO_OBSERVER)
+                return true;
+        }
+        else if (classObserver.observe(object))
+        {
+            return true;
+        }
+
+        makeStaticallyInitializedPropertiesReactive(object);
+        makeJavaObjectReactive(object);
+        return true;
+    }
+
+    /**
+     * Will be called from JS to find the properties the GWT compiler adds to every Java object
+     * (class literal, castable type map...). Those properties are never made reactive.
+     * @return A plain Java object
+     */
+    @JsMethod(namespace = "VueGWT.observerManager")
+    private static Object createJavaObject()
+    {
+        return new Object();
+    }
+
+    /**
+     * Go through all the observers for the first instance of a given class.
+     * The first observer observing the instance is kept for the next instances of the class.
+     * @param object The first instance of its class to be observed
+     * @return The observer that observed the instance, or {@link #NO_OBSERVER}
+     */
+    private static VueGWTObserver findObserver(Object object)
+    {
+        VueGWTObserver classObserver = NO_OBSERVER;
         for (VueGWTObserver observer : observers)
+        {
             if (observer.observe(object))
+            {
+                classObserver = observer;
+                break;
+            }
+        }
+
+        observersByClass.put(object.getClass(), classObserver);
+        return classObserver;
+    }
+
+    /**
+     * Will be called from JS the first time an instance of a given Java class is observed.
+     * Return the name under which the manifest of reactive fields of this class would be exported
+     * in {@link #REACTIVE_MODELS_NAMESPACE}, if the class is a ReactiveModel.
+     * @param object An instance of the class
+     * @return The name of the manifest, or null if the class has no canonical name
+     */
+    @JsMethod(namespace = "VueGWT.observerManager")
+    private static String getReactiveModelManifestName(Object object)
+    {
+        return getModelJsName(object.getClass());
+    }
+
+    /**
+     * Will be called from JS the first time an instance of a given Java class is observed.
+     * Return true if the class or one of its parents is annotated with NonReactive.
+     * @param object An instance of the class
+     * @return true if instances of this class should never be observed
+     */
+    @JsMethod(namespace = "VueGWT.observerManager")
+    private static boolean isNonReactiveModel(Object object)
+    {
+        for (Class<?> modelClass = object.getClass(); modelClass != null;
+            modelClass = modelClass.getSuperclass())
+        {
+            String jsName = getModelJsName(modelClass);
+            if (jsName != null && hasNonReactiveMarker(jsName))
                 return true;
+        }
 
-        makeStaticallyInitializedPropertiesReactive(object, object.getClass().getCanonicalName());
         return false;
     }
 
+    private static String getModelJsName(Class<?> modelClass)
+    {
+        String canonicalName = modelClass.getCanonicalName();
+        if (canonicalName == null)
+            return null;
+
+        return canonicalName.replace('.', '_');
+    }
+
+    /**
+     * Prevent Vue from ever observing the given object.
+     * The object stays a plain Java object: changes made to it won't update the views.
+     * It must be called before the object is added to the data of a Component, objects already
+     * observed stay observed.
+     * @param object The object to freeze
+     * @param <T> The type of the object
+     * @return The given object
+     */
+    @JsMethod(namespace = "VueGWT.observerManager")
+    public static native <T> T freeze(T object);
+
+    /**
+     * Prevent Vue from ever observing instances of the class of the given object.
+     * Instances already observed stay observed.
+     * @param javaObject An instance of the class to freeze
+     */
+    @JsMethod(namespace = "VueGWT.observerManager")
+    public static native void freezeClass(Object javaObject);
+
+    /**
+     * Observe the elements of the given Collection or Map lazily, when they are first read.
+     * Only the reads made through the methods visible in JS observe elements: get on a List or
+     * a Map, toArray (used by v-for), and values on a Map. Elements only read in other ways (an
+     * Iterator, forEach, stream, entrySet...) are not observed, use it only for collections read
+     * through these methods.
+     * It must be called before the object is added to the data of a Component.
+     * @param object The Collection or Map to observe lazily
+     * @param <T> The type of the object
+     * @return The given object
+     */
+    @JsMethod(namespace = "VueGWT.observerManager")
+    public static native <T> T observeLazily(T object);
+
+    /**
+     * @param object A Collection or Map
+     * @return true if {@link #observeLazily(Object)} was called on the object
+     */
+    @JsMethod(namespace = "VueGWT.observerManager")
+    public static native boolean isObservedLazily(Object object);
+
+    /**
+     * Notify Vue that an observed Collection or Map changed through a method Vue GWT can't see,
+     * like sort, removeIf or the Deque methods. Elements added by these methods are observed,
+     * and the {@link ListChangeListener} of a List get a reset.
+     * @param object The Collection or Map that changed
+     */
+    public static void notifyChanged(Object object)
+    {
+        VueObserver observer = getVueObserver(object);
+        if (observer == null)
+            return;
+
+        // Elements of collections observed lazily will be observed when read
+        if (observer.areElementsObserved())
+        {
+            if (object instanceof Collection)
+                observeNewValues(((Collection) object).toArray());
+            else if (object instanceof Map)
+                observeNewValues(((Map) object).values().toArray());
+        }
+
+        observer.notifyDep();
+        if (object instanceof List)
+            observer.notifyListChangeListeners((List) object, ListChange.reset());
+    }
+
+    @JsMethod(namespace = "VueGWT.observerManager")
+    private static native boolean isNonReactiveClass(Object javaObject);
+
+    @JsMethod(namespace = "VueGWT.observerManager")
+    private static native boolean hasNonReactiveMarker(String jsName);
+
     /**
      * Return the Vue Observer for the given object.
      * The object must be reactive (visible in a Vue Component) otherwise this method
@@ -81,6 +278,35 @@ public class VueGWTObserverManager
         return (VueObserver) JsTools.get(object, "__ob__");
     }
 
+    /**
+     * Listen to the changes made on an observed List.
+     * Each mutation is described as a {@link ListChange}, this allows updating things derived
+     * from the List without going through the whole List.
+     * @param list The List to listen to, must already be observed by Vue
+     * @param listener The listener called after each change
+     */
+    public static void addListChangeListener(List list, ListChangeListener listener)
+    {
+        VueObserver observer = getVueObserver(list);
+        if (observer == null)
+            throw new IllegalArgumentException(
+                "Can't listen to changes of a List that is not observed by Vue. Make sure it's in the data of a Component.");
+
+        observer.addListChangeListener(listener);
+    }
+
+    /**
+     * Stop listening to the changes made on an observed List.
+     * @param list The List we were listening to
+     * @param listener The listener to remove
+     */
+    public static void removeListChangeListener(List list, ListChangeListener listener)
+    {
+        VueObserver observer = getVueObserver(list);
+        if (observer != null)
+            observer.removeListChangeListener(listener);
+    }
+
     /**
      * Observe the given Object using Vue.js observer.
      * Will call {@link VueGWTObserverManager#observeJavaObject} to check if we have to make
@@ -102,6 +328,42 @@ public class VueGWTObserverManager
     @JsMethod(namespace = "VueGWT.observerManager")
     public static native void observeArray(JsArray objects);
 
+    /**
+     * Observe values newly added to an observed object, for example the items added to a
+     * collection.
+     * Inside a {@link #batch(Runnable)}, values are observed in one pass at the end of the batch.
+     * @param values The values to observe
+     */
+    @JsMethod(namespace = "VueGWT.observerManager")
+    public static native void observeNewValues(Object[] values);
+
+    /**
+     * Run the given mutations as a batch.
+     * Observers touched in the batch notify their dependencies only once, when the batch ends, and
+     * the new values are observed in one pass. Computed properties are the exception: they are
+     * marked as changed right away, so reading them in the batch gives their new value.
+     * Batches can be nested, notifications happen at the end of the outermost one.
+     * @param mutations The mutations to run
+     */
+    public static void batch(Runnable mutations)
+    {
+        startBatch();
+        try
+        {
+            mutations.run();
+        }
+        finally
+        {
+            endBatch();
+        }
+    }
+
+    @JsMethod(namespace = "VueGWT.observerManager")
+    private static native void startBatch();
+
+    @JsMethod(namespace = "VueGWT.observerManager")
+    private static native void endBatch();
+
     /**
      * Make all properties of the object reactive. It won't call
      * {@link VueGWTObserverManager#observeJavaObject} and will call Vue.js native walk instead.
@@ -124,10 +386,18 @@ public class VueGWTObserverManager
      * Therefore Vue.js don't see those properties when initializing it's observer.
      * To fix the issue, we manually look for those properties and set them explicitly on the
      * object.
+     * The list of properties is resolved once per class: from the manifest generated for
+     * ReactiveModel classes if there is one, or by looking at the prototype otherwise.
      * @param javaObject The Java object to observe
-     * @param className The Java class name to observe
      */
     @JsMethod(namespace = "VueGWT.observerManager")
-    private native static void makeStaticallyInitializedPropertiesReactive(Object javaObject,
-        String className);
+    private native static void makeStaticallyInitializedPropertiesReactive(Object javaObject);
+
+    /**
+     * Make the properties of the Java object reactive, like Vue.js walk does, but skipping the
+     * properties added by the GWT compiler (hash code, class literal...).
+     * @param javaObject The Java object to make reactive
+     */
+    @JsMethod(namespace = "VueGWT.observerManager")
+    private native static void makeJavaObjectReactive(Object javaObject);
 }
@@ -7,6 +7,8 @@ import jsinterop.annotations.JsPackage;
 import jsinterop.annotations.JsProperty;
 import jsinterop.annotations.JsType;
 
+import java.util.List;
+
 /**
  * @author Adrien Baron
  */
@@ -16,6 +18,15 @@ public class VueObserver
     @JsProperty
     private Dep dep;
 
+    @JsProperty
+    private JsArray<ListChangeListener> vuegwt$listChangeListeners;
+
+    @JsProperty
+    private boolean vuegwt$areElementsObserved;
+
+    @JsProperty
+    private boolean vuegwt$isMutating;
+
     public native void observeArray(JsArray array);
     public native void observeArray(Object[] array);
 
@@ -29,6 +40,67 @@ public class VueObserver
         this.dep.notifySelf();
     }
 
+    @JsOverlay
+    public final JsArray<ListChangeListener> getListChangeListeners() {
+        return this.vuegwt$listChangeListeners;
+    }
+
+    @JsOverlay
+    public final void addListChangeListener(ListChangeListener listener) {
+        if (this.vuegwt$listChangeListeners == null)
+            this.vuegwt$listChangeListeners = new JsArray<>();
+
+        this.vuegwt$listChangeListeners.push(listener);
+    }
+
+    @JsOverlay
+    public final void removeListChangeListener(ListChangeListener listener) {
+        if (this.vuegwt$listChangeListeners == null)
+            return;
+
+        int index = this.vuegwt$listChangeListeners.indexOf(listener);
+        if (index != -1)
+            this.vuegwt$listChangeListeners.splice(index, 1);
+    }
+
+    @JsOverlay
+    public final void notifyListChangeListeners(List list, ListChange change) {
+        if (this.vuegwt$listChangeListeners == null)
+            return;
+
+        for (int i = 0; i < this.vuegwt$listChangeListeners.length; i++)
+            this.vuegwt$listChangeListeners.get(i).onChange(list, change);
+    }
+
+    /**
+     * Elements of collections observed lazily are observed when they are first read.
+     * @return true if all the elements of the observed collection have been observed
+     */
+    @JsOverlay
+    public final boolean areElementsObserved() {
+        return this.vuegwt$areElementsObserved;
+    }
+
+    @JsOverlay
+    public final void setElementsObserved() {
+        this.vuegwt$areElementsObserved = true;
+    }
+
+    /**
+     * While an observed collection is being mutated, the mutation methods it calls don't notify,
+     * the outermost one does.
+     * @return true if a mutation method of the observed collection is running
+     */
+    @JsOverlay
+    public final boolean isMutating() {
+        return this.vuegwt$isMutating;
+    }
+
+    @JsOverlay
+    public final void setMutating(boolean isMutating) {
+        this.vuegwt$isMutating = isMutating;
+    }
+
     private class Dep {
         @JsMethod(name = "notify")
         public native void notifySelf();
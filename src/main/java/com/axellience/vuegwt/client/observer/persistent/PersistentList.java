@@ -0,0 +1,310 @@
+package com.axellience.vuegwt.client.observer.persistent;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * An immutable List, each change returns a new version of the List sharing most of its structure
+ * with the previous one.
+ * <br>
+ * Values are stored in a tree of arrays of 32 elements, so getting or changing an element costs
+ * O(log32 n), and adding at the end is almost always O(1).
+ * <br>
+ * Vue GWT never observes a PersistentList, it only sees when you replace one with a new version.
+ * This makes them cheap to use in your Component data, whatever their size:
+ * <pre>
+ * this.todos = this.todos.plus(new Todo("Learn Vue GWT"));
+ * </pre>
+ * The methods of {@link java.util.List} changing the List throw an
+ * {@link UnsupportedOperationException}.
+ * @param <T> The type of the elements
+ */
+public final class PersistentList<T> extends AbstractList<T> implements RandomAccess
+{
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private static final Object[] EMPTY_NODE = new Object[WIDTH];
+    private static final PersistentList<?> EMPTY =
+        new PersistentList<>(0, BITS, EMPTY_NODE, new Object[0]);
+
+    private final int size;
+    private final int shift;
+    private final Object[] root;
+    private final Object[] tail;
+
+    private PersistentList(int size, int shift, Object[] root, Object[] tail)
+    {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> empty()
+    {
+        return (PersistentList<T>) EMPTY;
+    }
+
+    @SafeVarargs
+    public static <T> PersistentList<T> of(T... values)
+    {
+        return PersistentList.<T>empty().plusAll(Arrays.asList(values));
+    }
+
+    public static <T> PersistentList<T> from(Collection<? extends T> values)
+    {
+        if (values instanceof PersistentList)
+        {
+            @SuppressWarnings("unchecked")
+            PersistentList<T> list = (PersistentList<T>) values;
+            return list;
+        }
+
+        return PersistentList.<T>empty().plusAll(values);
+    }
+
+    @Override
+    public int size()
+    {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index)
+    {
+        checkIndex(index);
+        return (T) arrayFor(index)[index & MASK];
+    }
+
+    /**
+     * Return a new version of this List with the given value added at the end.
+     * @param value The value to add
+     * @return The new version of the List
+     */
+    public PersistentList<T> plus(T value)
+    {
+        if (size - tailOffset() < WIDTH)
+        {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = value;
+            return new PersistentList<>(size + 1, shift, root, newTail);
+        }
+
+        // The tail is full, push it in the tree
+        Object[] newRoot;
+        int newShift = shift;
+        if ((size >>> BITS) > (1 << shift))
+        {
+            newRoot = new Object[WIDTH];
+            newRoot[0] = root;
+            newRoot[1] = newPath(shift, tail);
+            newShift += BITS;
+        }
+        else
+        {
+            newRoot = pushTail(shift, root, tail);
+        }
+
+        return new PersistentList<>(size + 1, newShift, newRoot, new Object[] { value });
+    }
+
+    /**
+     * Return a new version of this List with the given values added at the end.
+     * @param values The values to add
+     * @return The new version of the List
+     */
+    public PersistentList<T> plusAll(Collection<? extends T> values)
+    {
+        PersistentList<T> result = this;
+        for (T value : values)
+            result = result.plus(value);
+
+        return result;
+    }
+
+    /**
+     * Return a new version of this List with the element at the given index replaced.
+     * Return this List if the element is already the given value.
+     * @param index The index of the element to replace
+     * @param value The new value
+     * @return The new version of the List
+     */
+    public PersistentList<T> with(int index, T value)
+    {
+        checkIndex(index);
+        if (arrayFor(index)[index & MASK] == value)
+            return this;
+
+        if (index >= tailOffset())
+        {
+            Object[] newTail = Arrays.copyOf(tail, tail.length);
+            newTail[index & MASK] = value;
+            return new PersistentList<>(size, shift, root, newTail);
+        }
+
+        return new PersistentList<>(size, shift, doWith(shift, root, index, value), tail);
+    }
+
+    /**
+     * Return a new version of this List without its last element.
+     * @return The new version of the List
+     */
+    public PersistentList<T> minusLast()
+    {
+        if (size == 0)
+            throw new IllegalStateException("Can't remove the last element of an empty list");
+
+        if (size == 1)
+            return empty();
+
+        if (size - tailOffset() > 1)
+            return new PersistentList<>(size - 1, shift, root, Arrays.copyOf(tail, tail.length - 1));
+
+        // The tail becomes empty, the last leaf of the tree becomes the tail
+        Object[] newTail = arrayFor(size - 2);
+        Object[] newRoot = popTail(shift, root);
+        int newShift = shift;
+        if (newRoot == null)
+            newRoot = EMPTY_NODE;
+
+        if (shift > BITS && newRoot[1] == null)
+        {
+            newRoot = (Object[]) newRoot[0];
+            newShift -= BITS;
+        }
+
+        return new PersistentList<>(size - 1, newShift, newRoot, newTail);
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return new Iterator<T>()
+        {
+            private int index = 0;
+            private Object[] array = size > 0 ? arrayFor(0) : null;
+
+            @Override
+            public boolean hasNext()
+            {
+                return index < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next()
+            {
+                if (index >= size)
+                    throw new NoSuchElementException();
+
+                if (index > 0 && (index & MASK) == 0)
+                    array = arrayFor(index);
+
+                return (T) array[index++ & MASK];
+            }
+        };
+    }
+
+    private void checkIndex(int index)
+    {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+
+    private int tailOffset()
+    {
+        if (size < WIDTH)
+            return 0;
+
+        return ((size - 1) >>> BITS) << BITS;
+    }
+
+    private Object[] arrayFor(int index)
+    {
+        if (index >= tailOffset())
+            return tail;
+
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS)
+            node = (Object[]) node[(index >>> level) & MASK];
+
+        return node;
+    }
+
+    private Object[] pushTail(int level, Object[] parent, Object[] tailNode)
+    {
+        int subIndex = ((size - 1) >>> level) & MASK;
+        Object[] result = Arrays.copyOf(parent, WIDTH);
+        Object[] nodeToInsert;
+        if (level == BITS)
+        {
+            nodeToInsert = tailNode;
+        }
+        else
+        {
+            Object[] child = (Object[]) parent[subIndex];
+            nodeToInsert = child != null ?
+                pushTail(level - BITS, child, tailNode) :
+                newPath(level - BITS, tailNode);
+        }
+
+        result[subIndex] = nodeToInsert;
+        return result;
+    }
+
+    private Object[] popTail(int level, Object[] node)
+    {
+        int subIndex = ((size - 2) >>> level) & MASK;
+        if (level > BITS)
+        {
+            Object[] newChild = popTail(level - BITS, (Object[]) node[subIndex]);
+            if (newChild == null && subIndex == 0)
+                return null;
+
+            Object[] result = Arrays.copyOf(node, WIDTH);
+            result[subIndex] = newChild;
+            return result;
+        }
+
+        if (subIndex == 0)
+            return null;
+
+        Object[] result = Arrays.copyOf(node, WIDTH);
+        result[subIndex] = null;
+        return result;
+    }
+
+    private static Object[] newPath(int level, Object[] node)
+    {
+        if (level == 0)
+            return node;
+
+        Object[] result = new Object[WIDTH];
+        result[0] = newPath(level - BITS, node);
+        return result;
+    }
+
+    private static Object[] doWith(int level, Object[] node, int index, Object value)
+    {
+        Object[] result = Arrays.copyOf(node, WIDTH);
+        if (level == 0)
+        {
+            result[index & MASK] = value;
+        }
+        else
+        {
+            int subIndex = (index >>> level) & MASK;
+            result[subIndex] = doWith(level - BITS, (Object[]) node[subIndex], index, value);
+        }
+
+        return result;
+    }
+}
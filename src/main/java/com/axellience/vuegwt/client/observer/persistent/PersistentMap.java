@@ -0,0 +1,502 @@
+package com.axellience.vuegwt.client.observer.persistent;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * An immutable Map, each change returns a new version of the Map sharing most of its structure
+ * with the previous one.
+ * <br>
+ * Entries are stored in a hash array mapped trie, so getting, adding or removing an entry costs
+ * O(log32 n), and only copies the path to the entry.
+ * <br>
+ * Vue GWT never observes a PersistentMap, it only sees when you replace one with a new version.
+ * This makes them cheap to use in your Component data, whatever their size:
+ * <pre>
+ * this.todosById = this.todosById.plus(todo.getId(), todo);
+ * </pre>
+ * The methods of {@link java.util.Map} changing the Map throw an
+ * {@link UnsupportedOperationException}.
+ * @param <K> The type of the keys
+ * @param <V> The type of the values
+ */
+public final class PersistentMap<K, V> extends AbstractMap<K, V>
+{
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+
+    private static final PersistentMap<?, ?> EMPTY = new PersistentMap<>(null, 0);
+
+    private final Node root;
+    private final int size;
+    private Set<Entry<K, V>> entrySet;
+
+    private PersistentMap(Node root, int size)
+    {
+        this.root = root;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentMap<K, V> empty()
+    {
+        return (PersistentMap<K, V>) EMPTY;
+    }
+
+    public static <K, V> PersistentMap<K, V> from(Map<? extends K, ? extends V> map)
+    {
+        if (map instanceof PersistentMap)
+        {
+            @SuppressWarnings("unchecked")
+            PersistentMap<K, V> persistentMap = (PersistentMap<K, V>) map;
+            return persistentMap;
+        }
+
+        return PersistentMap.<K, V>empty().plusAll(map);
+    }
+
+    @Override
+    public int size()
+    {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key)
+    {
+        Leaf leaf = findLeaf(key);
+        return leaf == null ? null : (V) leaf.getValue();
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        return findLeaf(key) != null;
+    }
+
+    /**
+     * Return a new version of this Map with the given entry.
+     * Return this Map if the key is already associated to the given value.
+     * @param key The key of the entry
+     * @param value The value of the entry
+     * @return The new version of the Map
+     */
+    public PersistentMap<K, V> plus(K key, V value)
+    {
+        boolean[] added = new boolean[1];
+        Node currentRoot = root == null ? BitmapNode.EMPTY : root;
+        Node newRoot = currentRoot.plus(0, hash(key), key, value, added);
+        if (newRoot == root)
+            return this;
+
+        return new PersistentMap<>(newRoot, added[0] ? size + 1 : size);
+    }
+
+    /**
+     * Return a new version of this Map with all the entries of the given Map.
+     * @param map The entries to add
+     * @return The new version of the Map
+     */
+    public PersistentMap<K, V> plusAll(Map<? extends K, ? extends V> map)
+    {
+        PersistentMap<K, V> result = this;
+        for (Entry<? extends K, ? extends V> entry : map.entrySet())
+            result = result.plus(entry.getKey(), entry.getValue());
+
+        return result;
+    }
+
+    /**
+     * Return a new version of this Map without the given key.
+     * Return this Map if it doesn't contain the key.
+     * @param key The key to remove
+     * @return The new version of the Map
+     */
+    public PersistentMap<K, V> minus(Object key)
+    {
+        if (root == null)
+            return this;
+
+        Object newRoot = root.minus(0, hash(key), key);
+        if (newRoot == root)
+            return this;
+
+        if (newRoot == null)
+            return empty();
+
+        if (newRoot instanceof Leaf)
+        {
+            Leaf leaf = (Leaf) newRoot;
+            newRoot = new BitmapNode(bit(leaf.hash, 0), new Object[] { leaf });
+        }
+
+        return new PersistentMap<>((Node) newRoot, size - 1);
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet()
+    {
+        if (entrySet == null)
+        {
+            entrySet = new AbstractSet<Entry<K, V>>()
+            {
+                @Override
+                public Iterator<Entry<K, V>> iterator()
+                {
+                    return new LeafIterator<>(root);
+                }
+
+                @Override
+                public int size()
+                {
+                    return size;
+                }
+            };
+        }
+
+        return entrySet;
+    }
+
+    private Leaf findLeaf(Object key)
+    {
+        if (root == null)
+            return null;
+
+        return root.find(0, hash(key), key);
+    }
+
+    private static int hash(Object key)
+    {
+        return key == null ? 0 : key.hashCode();
+    }
+
+    private static int bit(int hash, int shift)
+    {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    private static Object[] insert(Object[] array, int index, Object value)
+    {
+        Object[] result = new Object[array.length + 1];
+        System.arraycopy(array, 0, result, 0, index);
+        result[index] = value;
+        System.arraycopy(array, index, result, index + 1, array.length - index);
+        return result;
+    }
+
+    private static Object[] remove(Object[] array, int index)
+    {
+        Object[] result = new Object[array.length - 1];
+        System.arraycopy(array, 0, result, 0, index);
+        System.arraycopy(array, index + 1, result, index, array.length - index - 1);
+        return result;
+    }
+
+    private static Object[] replace(Object[] array, int index, Object value)
+    {
+        Object[] result = Arrays.copyOf(array, array.length);
+        result[index] = value;
+        return result;
+    }
+
+    /**
+     * An entry of the Map, with the hash of its key.
+     */
+    private static final class Leaf extends SimpleImmutableEntry<Object, Object>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final int hash;
+
+        Leaf(int hash, Object key, Object value)
+        {
+            super(key, value);
+            this.hash = hash;
+        }
+    }
+
+    /**
+     * A node of the trie, its children are either {@link Leaf} or other {@link Node}.
+     */
+    private static abstract class Node
+    {
+        final Object[] children;
+
+        Node(Object[] children)
+        {
+            this.children = children;
+        }
+
+        abstract Leaf find(int shift, int hash, Object key);
+
+        abstract Node plus(int shift, int hash, Object key, Object value, boolean[] added);
+
+        /**
+         * @return this if the key is not there, null if the node becomes empty, a {@link Leaf}
+         * if only one entry is left, or the new node
+         */
+        abstract Object minus(int shift, int hash, Object key);
+    }
+
+    /**
+     * A node using the bits of the hash at its level to find its children.
+     */
+    private static final class BitmapNode extends Node
+    {
+        static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+        private final int bitmap;
+
+        BitmapNode(int bitmap, Object[] children)
+        {
+            super(children);
+            this.bitmap = bitmap;
+        }
+
+        private int index(int bit)
+        {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        @Override
+        Leaf find(int shift, int hash, Object key)
+        {
+            int bit = bit(hash, shift);
+            if ((bitmap & bit) == 0)
+                return null;
+
+            Object child = children[index(bit)];
+            if (child instanceof Node)
+                return ((Node) child).find(shift + BITS, hash, key);
+
+            Leaf leaf = (Leaf) child;
+            return Objects.equals(key, leaf.getKey()) ? leaf : null;
+        }
+
+        @Override
+        Node plus(int shift, int hash, Object key, Object value, boolean[] added)
+        {
+            int bit = bit(hash, shift);
+            int index = index(bit);
+            if ((bitmap & bit) == 0)
+            {
+                added[0] = true;
+                return new BitmapNode(bitmap | bit, insert(children, index, new Leaf(hash, key, value)));
+            }
+
+            Object child = children[index];
+            if (child instanceof Node)
+            {
+                Node newChild = ((Node) child).plus(shift + BITS, hash, key, value, added);
+                if (newChild == child)
+                    return this;
+
+                return new BitmapNode(bitmap, replace(children, index, newChild));
+            }
+
+            Leaf leaf = (Leaf) child;
+            if (Objects.equals(key, leaf.getKey()))
+            {
+                if (leaf.getValue() == value)
+                    return this;
+
+                return new BitmapNode(bitmap, replace(children, index, new Leaf(hash, key, value)));
+            }
+
+            added[0] = true;
+            Node newChild = createNode(shift + BITS, leaf, new Leaf(hash, key, value));
+            return new BitmapNode(bitmap, replace(children, index, newChild));
+        }
+
+        @Override
+        Object minus(int shift, int hash, Object key)
+        {
+            int bit = bit(hash, shift);
+            if ((bitmap & bit) == 0)
+                return this;
+
+            int index = index(bit);
+            Object child = children[index];
+            Object newChild;
+            if (child instanceof Node)
+            {
+                newChild = ((Node) child).minus(shift + BITS, hash, key);
+                if (newChild == child)
+                    return this;
+            }
+            else
+            {
+                if (!Objects.equals(key, ((Leaf) child).getKey()))
+                    return this;
+
+                newChild = null;
+            }
+
+            if (newChild != null)
+                return new BitmapNode(bitmap, replace(children, index, newChild));
+
+            if (bitmap == bit)
+                return null;
+
+            Object[] newChildren = remove(children, index);
+            if (newChildren.length == 1 && newChildren[0] instanceof Leaf)
+                return newChildren[0];
+
+            return new BitmapNode(bitmap ^ bit, newChildren);
+        }
+
+        private static Node createNode(int shift, Leaf first, Leaf second)
+        {
+            if (first.hash == second.hash)
+                return new CollisionNode(first.hash, new Object[] { first, second });
+
+            int firstBit = bit(first.hash, shift);
+            int secondBit = bit(second.hash, shift);
+            if (firstBit == secondBit)
+                return new BitmapNode(firstBit, new Object[] { createNode(shift + BITS, first, second) });
+
+            boolean isFirstBefore = ((first.hash >>> shift) & MASK) < ((second.hash >>> shift) & MASK);
+            Object[] children = isFirstBefore ?
+                new Object[] { first, second } :
+                new Object[] { second, first };
+            return new BitmapNode(firstBit | secondBit, children);
+        }
+    }
+
+    /**
+     * A node for the entries whose keys have the same hash.
+     */
+    private static final class CollisionNode extends Node
+    {
+        private final int hash;
+
+        CollisionNode(int hash, Object[] children)
+        {
+            super(children);
+            this.hash = hash;
+        }
+
+        private int indexOf(Object key)
+        {
+            for (int i = 0; i < children.length; i++)
+            {
+                if (Objects.equals(key, ((Leaf) children[i]).getKey()))
+                    return i;
+            }
+            return -1;
+        }
+
+        @Override
+        Leaf find(int shift, int hash, Object key)
+        {
+            int index = indexOf(key);
+            return index == -1 ? null : (Leaf) children[index];
+        }
+
+        @Override
+        Node plus(int shift, int hash, Object key, Object value, boolean[] added)
+        {
+            if (hash != this.hash)
+            {
+                // Nest this node under a bitmap node to tell the hashes apart
+                return new BitmapNode(bit(this.hash, shift), new Object[] { this })
+                    .plus(shift, hash, key, value, added);
+            }
+
+            int index = indexOf(key);
+            if (index == -1)
+            {
+                added[0] = true;
+                return new CollisionNode(hash,
+                    insert(children, children.length, new Leaf(hash, key, value)));
+            }
+
+            if (((Leaf) children[index]).getValue() == value)
+                return this;
+
+            return new CollisionNode(hash, replace(children, index, new Leaf(hash, key, value)));
+        }
+
+        @Override
+        Object minus(int shift, int hash, Object key)
+        {
+            int index = indexOf(key);
+            if (index == -1)
+                return this;
+
+            if (children.length == 2)
+                return children[1 - index];
+
+            return new CollisionNode(hash, remove(children, index));
+        }
+    }
+
+    /**
+     * Iterate over the leaves of the trie, depth first.
+     */
+    private static final class LeafIterator<K, V> implements Iterator<Entry<K, V>>
+    {
+        // Enough for 32 bits hashes split in 5 bits levels, plus a collision node
+        private final Object[][] arrays = new Object[9][];
+        private final int[] indexes = new int[9];
+        private int depth;
+        private Leaf next;
+
+        LeafIterator(Node root)
+        {
+            depth = -1;
+            if (root != null)
+            {
+                depth = 0;
+                arrays[0] = root.children;
+            }
+            next = findNext();
+        }
+
+        private Leaf findNext()
+        {
+            while (depth >= 0)
+            {
+                if (indexes[depth] == arrays[depth].length)
+                {
+                    depth--;
+                    continue;
+                }
+
+                Object child = arrays[depth][indexes[depth]++];
+                if (child instanceof Leaf)
+                    return (Leaf) child;
+
+                depth++;
+                arrays[depth] = ((Node) child).children;
+                indexes[depth] = 0;
+            }
+            return null;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return next != null;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Entry<K, V> next()
+        {
+            if (next == null)
+                throw new NoSuchElementException();
+
+            Leaf current = next;
+            next = findNext();
+            return (Entry<K, V>) (Entry<?, ?>) current;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.axellience.vuegwt.client.observer.reactive;
+
+import com.axellience.vuegwt.client.observer.ListChange;
+import com.axellience.vuegwt.client.observer.VueGWTObserverManager;
+import com.axellience.vuegwt.client.observer.VueObserver;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * A mutation of a reactive collection, made through a method Vue GWT can't see in JS.
+ * <br>
+ * The observer of the collection is muted while the mutation runs, so the observed methods it
+ * calls don't notify Vue. The mutation then notifies Vue once, if it changed the collection.
+ * Mutations made while another mutation of the collection is running are reported by the
+ * outermost one. Mutations of collections that are not observed don't notify anything.
+ */
+final class CollectionMutation
+{
+    private final VueObserver observer;
+
+    CollectionMutation(Object collection)
+    {
+        VueObserver collectionObserver = VueGWTObserverManager.getVueObserver(collection);
+        if (collectionObserver == null || collectionObserver.isMutating())
+            this.observer = null;
+        else
+            this.observer = collectionObserver;
+    }
+
+    void run(Runnable mutation)
+    {
+        call(() -> {
+            mutation.run();
+            return null;
+        });
+    }
+
+    <R> R call(Supplier<R> mutation)
+    {
+        if (observer == null)
+            return mutation.get();
+
+        observer.setMutating(true);
+        try
+        {
+            return mutation.get();
+        }
+        finally
+        {
+            observer.setMutating(false);
+        }
+    }
+
+    /**
+     * Notify Vue that the Set or Map changed, and observe the values added to it.
+     * @param addedValues The values added by the mutation
+     */
+    void changed(Object... addedValues)
+    {
+        if (observer == null)
+            return;
+
+        observer.notifyDep();
+        if (addedValues.length > 0 && observer.areElementsObserved())
+            VueGWTObserverManager.observeNewValues(addedValues);
+    }
+
+    /**
+     * Notify Vue and the {@link com.axellience.vuegwt.client.observer.ListChangeListener} that
+     * the List changed, and observe the items added to it.
+     * @param list The List that changed
+     * @param change The change made to the List
+     */
+    void listChanged(List<?> list, ListChange change)
+    {
+        if (observer == null)
+            return;
+
+        changed(change.getAddedItems().toArray());
+        observer.notifyListChangeListeners(list, change);
+    }
+
+    /**
+     * Reordering or replacing elements is only a change if an element is not the same anymore.
+     * @param before The elements before the mutation
+     * @param list The List after the mutation
+     * @return true if an element is not the same as before
+     */
+    static boolean hasChanged(Object[] before, List<?> list)
+    {
+        if (before.length != list.size())
+            return true;
+
+        for (int i = 0; i < before.length; i++)
+        {
+            if (before[i] != list.get(i))
+                return true;
+        }
+        return false;
+    }
+}
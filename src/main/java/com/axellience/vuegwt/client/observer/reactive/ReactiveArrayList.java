@@ -0,0 +1,100 @@
+package com.axellience.vuegwt.client.observer.reactive;
+
+import com.axellience.vuegwt.client.observer.ListChange;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+import static com.axellience.vuegwt.client.observer.reactive.CollectionMutation.hasChanged;
+
+/**
+ * An {@link ArrayList} reporting all its changes to Vue.
+ * <br>
+ * Vue GWT only sees the methods of the List interface that have a name in JS. This List also
+ * reports the changes made with sort, replaceAll, removeIf, and remove, set or add on its
+ * iterators, so you don't need to call
+ * {@link com.axellience.vuegwt.client.observer.VueGWTObserverManager#notifyChanged(Object)}:
+ * <pre>
+ * this.todos = new ReactiveArrayList&lt;&gt;(loadTodos());
+ * this.todos.sort(comparing(Todo::getText));
+ * </pre>
+ * Each call notifies Vue once, calls that don't change the List don't notify it.
+ * Changes made on the result of subList are reported like for an ArrayList.
+ * @param <T> The type of the elements
+ */
+public class ReactiveArrayList<T> extends ArrayList<T>
+{
+    public ReactiveArrayList()
+    {
+        super();
+    }
+
+    public ReactiveArrayList(int initialCapacity)
+    {
+        super(initialCapacity);
+    }
+
+    public ReactiveArrayList(Collection<? extends T> collection)
+    {
+        super(collection);
+    }
+
+    @Override
+    public void sort(Comparator<? super T> comparator)
+    {
+        CollectionMutation mutation = new CollectionMutation(this);
+        boolean changed = mutation.call(() -> {
+            Object[] before = toArray();
+            super.sort(comparator);
+            return hasChanged(before, this);
+        });
+
+        if (changed)
+            mutation.listChanged(this, ListChange.reset());
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<T> operator)
+    {
+        CollectionMutation mutation = new CollectionMutation(this);
+        Object[] replacedItems = mutation.call(() -> {
+            Object[] before = toArray();
+            super.replaceAll(operator);
+            return hasChanged(before, this) ? toArray() : null;
+        });
+
+        if (replacedItems != null)
+        {
+            mutation.listChanged(this,
+                ListChange.splice(0, replacedItems.length, replacedItems));
+        }
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter)
+    {
+        CollectionMutation mutation = new CollectionMutation(this);
+        boolean changed = mutation.call(() -> super.removeIf(filter));
+        if (changed)
+            mutation.listChanged(this, ListChange.reset());
+
+        return changed;
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return listIterator();
+    }
+
+    @Override
+    public ListIterator<T> listIterator(int index)
+    {
+        return new ReactiveListIterator<>(this, super.listIterator(index));
+    }
+}
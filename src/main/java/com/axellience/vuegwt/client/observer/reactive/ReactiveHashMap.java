@@ -0,0 +1,135 @@
+package com.axellience.vuegwt.client.observer.reactive;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A {@link HashMap} reporting all the changes made through the Map interface to Vue.
+ * <br>
+ * Vue GWT only sees the methods of the Map interface that have a name in JS. This Map also
+ * reports the changes made with compute, computeIfAbsent, computeIfPresent, merge, replaceAll,
+ * remove of a given value and replace of a given value, so you don't need to call
+ * {@link com.axellience.vuegwt.client.observer.VueGWTObserverManager#notifyChanged(Object)}.
+ * Each call notifies Vue once, calls that don't change the Map don't notify it.
+ * <br>
+ * Changes made through its keySet, values or entrySet views are not reported.
+ * @param <K> The type of the keys
+ * @param <V> The type of the values
+ */
+public class ReactiveHashMap<K, V> extends HashMap<K, V>
+{
+    public ReactiveHashMap()
+    {
+        super();
+    }
+
+    public ReactiveHashMap(int initialCapacity)
+    {
+        super(initialCapacity);
+    }
+
+    public ReactiveHashMap(Map<? extends K, ? extends V> map)
+    {
+        super(map);
+    }
+
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction)
+    {
+        return changeValue(key, () -> super.compute(key, remappingFunction));
+    }
+
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction)
+    {
+        return changeValue(key, () -> super.computeIfAbsent(key, mappingFunction));
+    }
+
+    @Override
+    public V computeIfPresent(K key,
+        BiFunction<? super K, ? super V, ? extends V> remappingFunction)
+    {
+        return changeValue(key, () -> super.computeIfPresent(key, remappingFunction));
+    }
+
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction)
+    {
+        return changeValue(key, () -> super.merge(key, value, remappingFunction));
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super K, ? super V, ? extends V> function)
+    {
+        CollectionMutation mutation = new CollectionMutation(this);
+        List<Object> replacedValues = mutation.call(() -> {
+            List<Object> values = new ArrayList<>();
+            for (Entry<K, V> entry : entrySet())
+            {
+                V value = function.apply(entry.getKey(), entry.getValue());
+                if (value != entry.getValue())
+                    values.add(value);
+
+                entry.setValue(value);
+            }
+            return values;
+        });
+
+        if (!replacedValues.isEmpty())
+            mutation.changed(replacedValues.toArray());
+    }
+
+    @Override
+    public boolean remove(Object key, Object value)
+    {
+        CollectionMutation mutation = new CollectionMutation(this);
+        boolean changed = mutation.call(() -> super.remove(key, value));
+        if (changed)
+            mutation.changed();
+
+        return changed;
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue)
+    {
+        CollectionMutation mutation = new CollectionMutation(this);
+        boolean replaced = mutation.call(() -> super.replace(key, oldValue, newValue));
+
+        // Replacing a value by itself doesn't change anything
+        if (replaced && oldValue != newValue)
+            mutation.changed(newValue);
+
+        return replaced;
+    }
+
+    /**
+     * Run a mutation of the value of the given key, and notify Vue if the key was added or
+     * removed, or if its value is not the same anymore.
+     * @param key The key whose value may change
+     * @param mutation The mutation, returning the new value of the key
+     * @return The result of the mutation
+     */
+    private V changeValue(K key, Supplier<V> mutation)
+    {
+        CollectionMutation collectionMutation = new CollectionMutation(this);
+        boolean[] changed = new boolean[1];
+        V result = collectionMutation.call(() -> {
+            boolean hadKey = containsKey(key);
+            V before = get(key);
+            V after = mutation.get();
+            changed[0] = hadKey != containsKey(key) || before != after;
+            return after;
+        });
+
+        if (changed[0])
+            collectionMutation.changed(result);
+
+        return result;
+    }
+}
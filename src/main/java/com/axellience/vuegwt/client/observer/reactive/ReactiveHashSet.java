@@ -0,0 +1,50 @@
+package com.axellience.vuegwt.client.observer.reactive;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.function.Predicate;
+
+/**
+ * A {@link HashSet} reporting all its changes to Vue.
+ * <br>
+ * Vue GWT only sees the methods of the Collection interface that have a name in JS. This Set also
+ * reports the changes made with removeIf and remove on its iterators, so you don't need to call
+ * {@link com.axellience.vuegwt.client.observer.VueGWTObserverManager#notifyChanged(Object)}.
+ * Each call notifies Vue once, calls that don't change the Set don't notify it.
+ * @param <T> The type of the elements
+ */
+public class ReactiveHashSet<T> extends HashSet<T>
+{
+    public ReactiveHashSet()
+    {
+        super();
+    }
+
+    public ReactiveHashSet(int initialCapacity)
+    {
+        super(initialCapacity);
+    }
+
+    public ReactiveHashSet(Collection<? extends T> collection)
+    {
+        super(collection);
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter)
+    {
+        CollectionMutation mutation = new CollectionMutation(this);
+        boolean changed = mutation.call(() -> super.removeIf(filter));
+        if (changed)
+            mutation.changed();
+
+        return changed;
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return new ReactiveIterator<>(this, super.iterator());
+    }
+}
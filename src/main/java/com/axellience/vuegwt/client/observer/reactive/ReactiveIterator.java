@@ -0,0 +1,39 @@
+package com.axellience.vuegwt.client.observer.reactive;
+
+import java.util.Iterator;
+
+/**
+ * An {@link Iterator} on a reactive Set, reporting the elements removed through it.
+ * @param <T> The type of the elements
+ */
+class ReactiveIterator<T> implements Iterator<T>
+{
+    private final Object collection;
+    private final Iterator<T> iterator;
+
+    ReactiveIterator(Object collection, Iterator<T> iterator)
+    {
+        this.collection = collection;
+        this.iterator = iterator;
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        return iterator.hasNext();
+    }
+
+    @Override
+    public T next()
+    {
+        return iterator.next();
+    }
+
+    @Override
+    public void remove()
+    {
+        CollectionMutation mutation = new CollectionMutation(collection);
+        mutation.run(iterator::remove);
+        mutation.changed();
+    }
+}
@@ -0,0 +1,104 @@
+package com.axellience.vuegwt.client.observer.reactive;
+
+import com.axellience.vuegwt.client.observer.ListChange;
+
+import java.util.List;
+import java.util.ListIterator;
+
+/**
+ * A {@link ListIterator} on a reactive List, reporting the changes made through it.
+ * @param <T> The type of the elements
+ */
+class ReactiveListIterator<T> implements ListIterator<T>
+{
+    private final List<T> list;
+    private final ListIterator<T> iterator;
+    private int lastIndex = -1;
+
+    ReactiveListIterator(List<T> list, ListIterator<T> iterator)
+    {
+        this.list = list;
+        this.iterator = iterator;
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        return iterator.hasNext();
+    }
+
+    @Override
+    public T next()
+    {
+        int index = iterator.nextIndex();
+        T next = iterator.next();
+        lastIndex = index;
+        return next;
+    }
+
+    @Override
+    public boolean hasPrevious()
+    {
+        return iterator.hasPrevious();
+    }
+
+    @Override
+    public T previous()
+    {
+        int index = iterator.previousIndex();
+        T previous = iterator.previous();
+        lastIndex = index;
+        return previous;
+    }
+
+    @Override
+    public int nextIndex()
+    {
+        return iterator.nextIndex();
+    }
+
+    @Override
+    public int previousIndex()
+    {
+        return iterator.previousIndex();
+    }
+
+    @Override
+    public void remove()
+    {
+        int index = lastIndex;
+        CollectionMutation mutation = new CollectionMutation(list);
+        mutation.run(iterator::remove);
+        lastIndex = -1;
+        mutation.listChanged(list, ListChange.splice(index, 1));
+    }
+
+    @Override
+    public void set(T value)
+    {
+        int index = lastIndex;
+        if (index == -1)
+            throw new IllegalStateException();
+
+        CollectionMutation mutation = new CollectionMutation(list);
+        T previous = mutation.call(() -> {
+            T current = list.get(index);
+            iterator.set(value);
+            return current;
+        });
+
+        // Setting the same value again doesn't change anything
+        if (previous != value)
+            mutation.listChanged(list, ListChange.splice(index, 1, value));
+    }
+
+    @Override
+    public void add(T value)
+    {
+        int index = iterator.nextIndex();
+        CollectionMutation mutation = new CollectionMutation(list);
+        mutation.run(() -> iterator.add(value));
+        lastIndex = -1;
+        mutation.listChanged(list, ListChange.splice(index, 0, value));
+    }
+}
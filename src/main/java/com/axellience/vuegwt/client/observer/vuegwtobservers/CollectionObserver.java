@@ -1,6 +1,8 @@
 package com.axellience.vuegwt.client.observer.vuegwtobservers;
 
 import com.axellience.vuegwt.client.jsnative.jstypes.JsArray;
+import com.axellience.vuegwt.client.observer.ListChange;
+import com.axellience.vuegwt.client.observer.ListChangeListener;
 import com.axellience.vuegwt.client.observer.VueGWTObserver;
 import com.axellience.vuegwt.client.observer.VueGWTObserverManager;
 import com.axellience.vuegwt.client.observer.VueObserver;
@@ -8,83 +10,227 @@ import com.axellience.vuegwt.client.tools.AfterMethodCall;
 
 import java.util.Collection;
 import java.util.List;
-import java.util.Set;
 
-import static com.axellience.vuegwt.client.tools.VueGWTTools.wrapMethod;
+import static com.axellience.vuegwt.client.tools.VueGWTTools.markPrototype;
+import static com.axellience.vuegwt.client.tools.VueGWTTools.setBackingCollection;
+import static com.axellience.vuegwt.client.tools.VueGWTTools.wrapPrototypeMethod;
+import static com.axellience.vuegwt.client.tools.VueGWTTools.wrapPrototypeMethodWithBefore;
+import static com.axellience.vuegwt.client.tools.VueGWTTools.wrapPrototypeReadMethod;
 
 /**
  * This observer is able to observe Java Collections.
- * For now it only support List and Set.
  * <br>
- * To observe the collection, it wraps the Java mutable methods and call Vue observer
- * when they are called.
+ * To observe the collection, it wraps the Java mutable methods on the prototype of the collection
+ * Class and call Vue observer when they are called.
+ * Methods are wrapped only once per Class, the observer is retrieved from the collection when the
+ * method is called. Only the methods of the JsType interfaces of the JRE emulation (Collection and
+ * List) have a name in JS, so they are the only ones observed. {@link
+ * com.axellience.vuegwt.client.observer.reactive.ReactiveArrayList} and {@link
+ * com.axellience.vuegwt.client.observer.reactive.ReactiveHashSet} report the other mutation
+ * methods of their class. On other collections, these methods (sort, removeIf, Deque and Queue
+ * methods...) must be followed by a call to {@link VueGWTObserverManager#notifyChanged(Object)}.
+ * Each observed call notifies Vue once, calls that don't change the collection don't notify it.
+ * Bulk mutations made on the result of subList notify its List once.
+ * <br>
+ * The elements are observed when the collection is observed, unless {@link
+ * VueGWTObserverManager#observeLazily(Object)} was called on it: they are then observed when read
+ * with getAtIndex or toArray. These read methods are only wrapped for the classes of collections
+ * observed lazily, reading other collections costs nothing more.
+ * <br>
+ * Each mutation of a List is also described as a {@link ListChange} for the {@link
+ * ListChangeListener} registered on it.
  * @author Adrien Baron
  */
 public class CollectionObserver extends VueGWTObserver
 {
+    private static final String COLLECTION_MARKER = "vuegwt$isObservableCollection";
+    private static final String LIST_MARKER = "vuegwt$isObservableList";
+    private static final String LAZY_COLLECTION_MARKER = "vuegwt$isLazyCollection";
+    private static final String LAZY_LIST_MARKER = "vuegwt$isLazyList";
+
+    /**
+     * Called instead of the callbacks of the methods called on the result of subList. The splice
+     * made on the List is unknown, so bulk mutations made on the view are a reset.
+     */
+    private static final AfterMethodCall<List> SUB_LIST_CALL =
+        ((list, methodName, result, arguments) -> {
+            if ("subList".equals(methodName))
+                observeSubList(list, result);
+            else if (hasChanged(result))
+                collectionChanged(list, ListChange.reset());
+        });
+
     @Override
     public boolean observe(Object object)
     {
-        if (object instanceof List)
+        if (!(object instanceof Collection))
+            return false;
+
+        Collection collection = (Collection) object;
+        if (VueGWTObserverManager.isObservedLazily(collection))
+            wrapLazyReadMethods(collection);
+        else
+            observeElements(collection);
+
+        if (markPrototype(collection, COLLECTION_MARKER))
+            wrapCollectionMethods(collection);
+
+        if (collection instanceof List && markPrototype(collection, LIST_MARKER))
+            wrapListMethods((List) collection);
+
+        return true;
+    }
+
+    /**
+     * Wrap the methods reading the elements, to observe them when they are first read.
+     * Done the first time a collection of a given class is observed lazily.
+     * @param collection The collection observed lazily
+     */
+    private static void wrapLazyReadMethods(Collection collection)
+    {
+        if (markPrototype(collection, LAZY_COLLECTION_MARKER))
         {
-            observeList((List) object);
-            return true;
+            wrapPrototypeMethodWithBefore(collection,
+                "toArray",
+                ((object, methodName, arguments) -> observeElements(object)));
         }
 
-        if (object instanceof Set)
+        if (collection instanceof List && markPrototype(collection, LAZY_LIST_MARKER))
         {
-            observeSet((Set) object);
-            return true;
+            wrapPrototypeReadMethod((List) collection,
+                "getAtIndex",
+                ((object, methodName, result, arguments) -> {
+                    VueObserver observer = VueGWTObserverManager.getVueObserver(object);
+                    if (!observer.areElementsObserved())
+                        observer.observe(result);
+                }));
         }
-
-        return false;
     }
 
-    private void observeList(List list)
+    private static void wrapCollectionMethods(Collection collection)
     {
-        VueObserver observer = VueGWTObserverManager.getVueObserver(list);
-        observer.observeArray(JsArray.from(list));
-
-        AfterMethodCall<List> callObserver =
-            ((object, methodName, result, arguments) -> observer.notifyDep());
-
-        wrapMethod(list, "clear", callObserver);
-        wrapMethod(list, "remove", callObserver);
-        wrapMethod(list, "removeAll", callObserver);
-        wrapMethod(list, "retainAll", callObserver);
-        wrapMethod(list, "add", ((object, methodName, result, arguments) -> {
-            observer.notifyDep();
-            observer.observeArray(arguments);
-        }));
-        wrapMethod(list, "addAll", ((object, methodName, result, arguments) -> {
-            observer.notifyDep();
-            observer.observeArray(((Collection) arguments[0]).toArray());
+        AfterMethodCall<Collection> callObserver = ((object, methodName, result, arguments) -> {
+            if (hasChanged(result))
+                collectionChanged(object, ListChange.reset());
+        });
+
+        wrapPrototypeMethod(collection,
+            "clear",
+            callObserver,
+            ((object, arguments) -> !object.isEmpty()));
+        wrapPrototypeMethod(collection, "remove", callObserver);
+        wrapPrototypeMethod(collection, "removeAll", callObserver);
+        wrapPrototypeMethod(collection, "retainAll", callObserver);
+        wrapPrototypeMethod(collection, "add", ((object, methodName, result, arguments) -> {
+            if (hasChanged(result))
+                collectionChanged(object, ListChange.splice(object.size() - 1, 0, arguments[0]));
         }));
-        wrapMethod(list, "add", ((object, methodName, result, arguments) -> {
-            observer.notifyDep();
-            observer.observeArray(new Object[] { arguments[1] });
+        wrapPrototypeMethod(collection, "addAll", ((object, methodName, result, arguments) -> {
+            if (!hasChanged(result))
+                return;
+
+            Object[] addedItems = ((Collection) arguments[0]).toArray();
+            collectionChanged(object,
+                ListChange.splice(object.size() - addedItems.length, 0, addedItems));
         }));
     }
 
-    private void observeSet(Set set)
+    private static void wrapListMethods(List list)
     {
-        VueObserver observer = VueGWTObserverManager.getVueObserver(set);
-        observer.observeArray(JsArray.from(set));
-
-        AfterMethodCall<Set> callObserver =
-            ((object, methodName, result, arguments) -> observer.notifyDep());
-
-        wrapMethod(set, "clear", callObserver);
-        wrapMethod(set, "remove", callObserver);
-        wrapMethod(set, "removeAll", callObserver);
-        wrapMethod(set, "retainAll", callObserver);
-        wrapMethod(set, "add", ((object, methodName, result, arguments) -> {
-            observer.notifyDep();
-            observer.observeArray(arguments);
+        wrapPrototypeMethod(list, "removeAtIndex", ((object, methodName, result, arguments) -> {
+            collectionChanged(object, ListChange.splice(toIndex(arguments[0]), 1));
         }));
-        wrapMethod(set, "addAll", ((object, methodName, result, arguments) -> {
-            observer.notifyDep();
-            observer.observeArray(((Collection) arguments[0]).toArray());
+        wrapPrototypeMethod(list, "setAtIndex", ((object, methodName, result, arguments) -> {
+            // Setting the same value again doesn't change anything
+            if (result == arguments[1])
+                return;
+
+            collectionChanged(object, ListChange.splice(toIndex(arguments[0]), 1, arguments[1]));
+        }));
+        wrapPrototypeMethod(list, "addAtIndex", ((object, methodName, result, arguments) -> {
+            collectionChanged(object, ListChange.splice(toIndex(arguments[0]), 0, arguments[1]));
+        }));
+        wrapPrototypeMethod(list, "addAllAtIndex", ((object, methodName, result, arguments) -> {
+            if (!hasChanged(result))
+                return;
+
+            Object[] addedItems = ((Collection) arguments[1]).toArray();
+            collectionChanged(object, ListChange.splice(toIndex(arguments[0]), 0, addedItems));
         }));
+
+        wrapPrototypeMethod(list,
+            "subList",
+            ((object, methodName, result, arguments) -> observeSubList(object, result)));
+    }
+
+    /**
+     * The methods of the result of subList call the ones of the List, a bulk mutation made on the
+     * view would notify once per element. The bulk mutations of the view are wrapped to notify
+     * the List once instead.
+     * Single element mutations made on the view (get, set, add or remove at an index) are not
+     * wrapped, the List reports them precisely.
+     * @param list The observed List
+     * @param subList The result of subList on the List or on one of its views
+     */
+    private static void observeSubList(List list, Object subList)
+    {
+        setBackingCollection(subList, list, SUB_LIST_CALL);
+        if (markPrototype(subList, COLLECTION_MARKER))
+            wrapCollectionMethods((Collection) subList);
+
+        // For views of the view
+        wrapPrototypeMethod((List) subList, "subList", SUB_LIST_CALL);
+    }
+
+    /**
+     * Observe all the elements of the collection, if not done yet.
+     * @param collection The collection
+     */
+    private static void observeElements(Collection collection)
+    {
+        VueObserver observer = VueGWTObserverManager.getVueObserver(collection);
+        if (observer == null || observer.areElementsObserved())
+            return;
+
+        // Set first, reading the elements calls our wrapped methods again
+        observer.setElementsObserved();
+        observer.observeArray(JsArray.from(collection));
+    }
+
+    /**
+     * Observe the items added to the collection and notify Vue. For a List, also notify its
+     * {@link ListChangeListener}.
+     * @param collection The collection that changed
+     * @param change The change made to the collection, only used for Lists
+     */
+    private static void collectionChanged(Collection collection, ListChange change)
+    {
+        VueObserver observer = VueGWTObserverManager.getVueObserver(collection);
+        observer.notifyDep();
+        if (!change.getAddedItems().isEmpty() && observer.areElementsObserved())
+            VueGWTObserverManager.observeNewValues(change.getAddedItems().toArray());
+
+        if (collection instanceof List)
+            observer.notifyListChangeListeners((List) collection, change);
+    }
+
+    /**
+     * Mutation methods returning a boolean return false when they didn't change the collection.
+     * @param result The result of the mutation method
+     * @return false if the collection didn't change, true if it might have
+     */
+    private static boolean hasChanged(Object result)
+    {
+        return !(result instanceof Boolean) || (Boolean) result;
+    }
+
+    /**
+     * Index parameters are received from JS as numbers, which are Double in GWT.
+     * @param index The index parameter
+     * @return The index as an int
+     */
+    private static int toIndex(Object index)
+    {
+        return ((Number) index).intValue();
     }
 }
@@ -8,57 +8,138 @@ import com.axellience.vuegwt.client.tools.AfterMethodCall;
 
 import java.util.Map;
 
-import static com.axellience.vuegwt.client.tools.VueGWTTools.wrapMethod;
+import static com.axellience.vuegwt.client.tools.VueGWTTools.markPrototype;
+import static com.axellience.vuegwt.client.tools.VueGWTTools.wrapPrototypeMethod;
+import static com.axellience.vuegwt.client.tools.VueGWTTools.wrapPrototypeMethodWithBefore;
+import static com.axellience.vuegwt.client.tools.VueGWTTools.wrapPrototypeReadMethod;
 
 /**
- * This observer is able to observe Java Collections.
- * For now it only support List and Set.
+ * This observer is able to observe Java Maps.
  * <br>
- * To observe the collection, it wraps the Java mutable methods and call Vue observer
- * when they are called.
+ * To observe the map, it wraps the Java mutable methods on the prototype of the map Class and call
+ * Vue observer when they are called.
+ * Methods are wrapped only once per Class, the observer is retrieved from the map when the method
+ * is called. Only the methods of the JsType Map interface of the JRE emulation have a name in JS,
+ * so they are the only ones observed. The default implementations of compute, merge and
+ * computeIfAbsent call put and remove, so they are usually observed too. {@link
+ * com.axellience.vuegwt.client.observer.reactive.ReactiveHashMap} reports the other mutation
+ * methods of the Map interface. On other maps, these methods (replaceAll, pollFirstEntry, setValue
+ * on an entry...) must be followed by a call to {@link VueGWTObserverManager#notifyChanged(Object)}.
+ * Calls that don't change the map don't notify it.
+ * <br>
+ * The values are observed when the map is observed, unless {@link
+ * VueGWTObserverManager#observeLazily(Object)} was called on it: they are then observed when read
+ * with get or values. These read methods are only wrapped for the classes of maps observed
+ * lazily, reading other maps costs nothing more.
  * @author Adrien Baron
  */
 public class MapObserver extends VueGWTObserver
 {
+    private static final String MAP_MARKER = "vuegwt$isObservableMap";
+    private static final String LAZY_MAP_MARKER = "vuegwt$isLazyMap";
+
     @Override
     public boolean observe(Object object)
     {
-        if (object instanceof Map)
-        {
-            observeMap((Map) object);
-            return true;
-        }
+        if (!(object instanceof Map))
+            return false;
+
+        Map map = (Map) object;
+        if (VueGWTObserverManager.isObservedLazily(map))
+            wrapLazyReadMethods(map);
+        else
+            observeValues(map);
 
-        return false;
+        if (markPrototype(map, MAP_MARKER))
+            wrapMapMethods(map);
+
+        return true;
     }
 
-    private void observeMap(Map map)
+    /**
+     * Wrap the methods reading the values, to observe them when they are first read.
+     * Done the first time a map of a given class is observed lazily.
+     * @param map The map observed lazily
+     */
+    private static void wrapLazyReadMethods(Map map)
     {
-        VueObserver observer = VueGWTObserverManager.getVueObserver(map);
-        observer.observeArray(JsArray.from(map));
+        if (!markPrototype(map, LAZY_MAP_MARKER))
+            return;
 
+        wrapPrototypeMethodWithBefore(map,
+            "values",
+            ((object, methodName, arguments) -> observeValues(object)));
+        wrapPrototypeReadMethod(map, "get", ((object, methodName, result, arguments) -> {
+            VueObserver observer = VueGWTObserverManager.getVueObserver(object);
+            if (!observer.areElementsObserved())
+                observer.observe(result);
+        }));
+    }
+
+    private static void wrapMapMethods(Map map)
+    {
         AfterMethodCall<Map> callObserver =
-            ((object, methodName, result, arguments) -> observer.notifyDep());
+            ((object, methodName, result, arguments) -> mapChanged(object));
 
-        wrapMethod(map, "clear", callObserver);
-        wrapMethod(map, "remove", callObserver);
+        wrapPrototypeMethod(map, "clear", callObserver, ((object, arguments) -> !object.isEmpty()));
+        wrapPrototypeMethod(map,
+            "remove",
+            callObserver,
+            ((object, arguments) -> object.containsKey(arguments[0])));
 
-        wrapMethod(map, "put", ((object, methodName, result, arguments) -> {
-            observer.notifyDep();
-            observer.observeArray(new Object[] { arguments[1] });
-        }));
-        wrapMethod(map, "putIfAbsent", ((object, methodName, result, arguments) -> {
-            observer.notifyDep();
-            observer.observeArray(new Object[] { arguments[1] });
+        wrapPrototypeMethod(map, "put", ((object, methodName, result, arguments) -> {
+            // Putting the same value again doesn't change anything
+            if (result != null && result == arguments[1])
+                return;
+
+            mapChanged(object, arguments[1]);
         }));
-        wrapMethod(map, "putAll", ((object, methodName, result, arguments) -> {
-            observer.notifyDep();
-            observer.observeArray(JsArray.from(((Map) arguments[0])));
+        wrapPrototypeMethod(map, "putIfAbsent", ((object, methodName, result, arguments) -> {
+            // The current value is returned when there is one
+            if (result != null)
+                return;
+
+            mapChanged(object, arguments[1]);
         }));
+        wrapPrototypeMethod(map,
+            "putAll",
+            ((object, methodName, result, arguments) -> mapChanged(object,
+                ((Map) arguments[0]).values().toArray())),
+            ((object, arguments) -> !((Map) arguments[0]).isEmpty()));
+        wrapPrototypeMethod(map, "replace", ((object, methodName, result, arguments) -> {
+            // Nothing is replaced when the key is absent or the value is the same
+            if (result == arguments[1] || (result == null && !object.containsKey(arguments[0])))
+                return;
 
-        wrapMethod(map, "replace", ((object, methodName, result, arguments) -> {
-            observer.notifyDep();
-            observer.observeArray(new Object[] { arguments[1], arguments[2] });
+            mapChanged(object, arguments[1]);
         }));
     }
+
+    /**
+     * Observe all the values of the map, if not done yet.
+     * @param map The map
+     */
+    private static void observeValues(Map map)
+    {
+        VueObserver observer = VueGWTObserverManager.getVueObserver(map);
+        if (observer == null || observer.areElementsObserved())
+            return;
+
+        // Set first, reading the values calls our wrapped methods again
+        observer.setElementsObserved();
+        observer.observeArray(JsArray.from(map));
+    }
+
+    /**
+     * Notify Vue that the given map changed, and observe the values added to it.
+     * @param map The map that changed
+     * @param addedValues The values added to the map
+     */
+    private static void mapChanged(Map map, Object... addedValues)
+    {
+        VueObserver observer = VueGWTObserverManager.getVueObserver(map);
+        observer.notifyDep();
+        if (addedValues.length > 0 && observer.areElementsObserved())
+            VueGWTObserverManager.observeNewValues(addedValues);
+    }
 }
@@ -0,0 +1,30 @@
+package com.axellience.vuegwt.client.observer.vuegwtobservers;
+
+import com.axellience.vuegwt.client.observer.VueGWTObserver;
+import com.axellience.vuegwt.client.observer.VueGWTObserverManager;
+import com.axellience.vuegwt.client.observer.persistent.PersistentList;
+import com.axellience.vuegwt.client.observer.persistent.PersistentMap;
+
+/**
+ * This observer handles {@link PersistentList} and {@link PersistentMap}.
+ * <br>
+ * They never change, so there is nothing to observe in them: replacing them with a new version
+ * is the only change Vue needs to see, and the property holding them already tells Vue.
+ * Their methods are not wrapped and their elements are not walked.
+ * Their class is frozen the first time one of them is seen, so Vue doesn't even create an
+ * observer for the next ones.
+ */
+public class PersistentCollectionObserver extends VueGWTObserver
+{
+    @Override
+    public boolean observe(Object object)
+    {
+        if (object instanceof PersistentList || object instanceof PersistentMap)
+        {
+            VueGWTObserverManager.freezeClass(object);
+            return true;
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,60 @@
+package com.axellience.vuegwt.client.observer.vuegwtobservers;
+
+import com.axellience.vuegwt.client.jsnative.jstypes.JsTypedArray;
+import jsinterop.annotations.JsMethod;
+
+/**
+ * This observer is able to observe JS typed arrays, wrapped by the subclasses of {@link
+ * JsTypedArray}.
+ * <br>
+ * Typed arrays are observed as a whole: their elements are never walked, reading an element
+ * depends on the whole array and writing one notifies for the whole array. Methods changing a
+ * range of elements notify only once.
+ * <br>
+ * The typed array gets a Vue observer when it's created through our wrappers, this way Vue
+ * depends on it as soon as it's put in the data of a Component.
+ */
+public class TypedArrayObserver
+{
+    /**
+     * Return true if the given object is a JS typed array.
+     * @param object The object to check
+     * @return true if it's a typed array, false otherwise
+     */
+    @JsMethod(namespace = "VueGWT.observerManager", name = "isTypedArray")
+    public static native boolean isTypedArray(Object object);
+
+    /**
+     * Give a Vue observer to the given typed array, if it doesn't have one yet.
+     * @param typedArray The typed array to observe
+     * @param <T> The type of the typed array
+     * @return The given typed array
+     */
+    @JsMethod(namespace = "VueGWT.observerManager", name = "observeTypedArray")
+    public static native <T> T observe(T typedArray);
+
+    /**
+     * Read an element of the typed array, the current watcher will depend on the array.
+     * @param typedArray The typed array to read
+     * @param index The index of the element
+     * @return The value of the element
+     */
+    @JsMethod(namespace = "VueGWT.observerManager", name = "getTypedArrayItem")
+    public static native double get(Object typedArray, int index);
+
+    /**
+     * Write an element of the typed array, notify Vue if its value changed.
+     * @param typedArray The typed array to write
+     * @param index The index of the element
+     * @param value The new value of the element
+     */
+    @JsMethod(namespace = "VueGWT.observerManager", name = "setTypedArrayItem")
+    public static native void set(Object typedArray, int index, double value);
+
+    /**
+     * Notify Vue that the typed array changed.
+     * @param typedArray The typed array that changed
+     */
+    @JsMethod(namespace = "VueGWT.observerManager", name = "notifyTypedArray")
+    public static native void notifyChange(Object typedArray);
+}
@@ -0,0 +1,168 @@
+package com.axellience.vuegwt.client.scheduler;
+
+import com.axellience.vuegwt.client.component.VueComponent;
+import jsinterop.annotations.JsFunction;
+import jsinterop.annotations.JsMethod;
+import jsinterop.annotations.JsPackage;
+
+/**
+ * Render a large number of items over several frames instead of all at once.
+ * <br>
+ * The first items are rendered right away, then each animation frame asks the Component to
+ * render more of them. The number of items added each frame adapts to keep the time spent
+ * rendering under a budget, so the first paint comes quickly and the page stays responsive:
+ * <pre>
+ * IncrementalRender.start(this, todos.size(), (renderedCount, totalCount) -&gt; {
+ *     this.renderedCount = renderedCount;
+ * });
+ * </pre>
+ * The render is cancelled when the Component is destroyed.
+ */
+public final class IncrementalRender
+{
+    private static final int DEFAULT_FIRST_CHUNK_SIZE = 50;
+    private static final double FRAME_BUDGET_MS = 8;
+
+    private final VueComponent component;
+    private final int totalCount;
+    private final IncrementalRenderProgress progress;
+
+    private int renderedCount;
+    private int chunkSize;
+    private int frameRequestId = -1;
+    private boolean isCancelled;
+
+    private IncrementalRender(VueComponent component, int totalCount, int firstChunkSize,
+        IncrementalRenderProgress progress)
+    {
+        this.component = component;
+        this.totalCount = totalCount;
+        this.progress = progress;
+        this.chunkSize = Math.max(1, firstChunkSize);
+    }
+
+    /**
+     * Start rendering the given number of items.
+     * @param component The Component rendering the items
+     * @param totalCount The number of items to render
+     * @param progress Called each time more items can be rendered, starting with the first ones
+     * @return The render, to cancel it
+     */
+    public static IncrementalRender start(VueComponent component, int totalCount,
+        IncrementalRenderProgress progress)
+    {
+        return start(component, totalCount, DEFAULT_FIRST_CHUNK_SIZE, progress);
+    }
+
+    /**
+     * Start rendering the given number of items.
+     * @param component The Component rendering the items
+     * @param totalCount The number of items to render
+     * @param firstChunkSize The number of items rendered right away, the following chunks are
+     * sized from the time it took to render them
+     * @param progress Called each time more items can be rendered, starting with the first ones
+     * @return The render, to cancel it
+     */
+    public static IncrementalRender start(VueComponent component, int totalCount,
+        int firstChunkSize, IncrementalRenderProgress progress)
+    {
+        IncrementalRender render =
+            new IncrementalRender(component, totalCount, firstChunkSize, progress);
+        component.$once("hook:destroyed", event -> render.cancel());
+        render.renderChunk(now());
+        return render;
+    }
+
+    /**
+     * Stop rendering more items. Items already rendered stay rendered.
+     */
+    public void cancel()
+    {
+        isCancelled = true;
+        if (frameRequestId != -1)
+        {
+            cancelAnimationFrame(frameRequestId);
+            frameRequestId = -1;
+        }
+    }
+
+    /**
+     * @return true if all the items have been rendered
+     */
+    public boolean isDone()
+    {
+        return renderedCount == totalCount;
+    }
+
+    /**
+     * @return true if the render was cancelled before all the items were rendered
+     */
+    public boolean isCancelled()
+    {
+        return isCancelled;
+    }
+
+    /**
+     * @return The number of items rendered so far
+     */
+    public int getRenderedCount()
+    {
+        return renderedCount;
+    }
+
+    public int getTotalCount()
+    {
+        return totalCount;
+    }
+
+    private void renderChunk(double startTime)
+    {
+        frameRequestId = -1;
+        if (isCancelled)
+            return;
+
+        int chunkRenderedCount = Math.min(chunkSize, totalCount - renderedCount);
+        renderedCount += chunkRenderedCount;
+        progress.onProgress(renderedCount, totalCount);
+
+        if (isDone())
+            return;
+
+        // Vue renders the changes on next tick, we can measure how long it took
+        component.$nextTick(() -> {
+            adaptChunkSize(chunkRenderedCount, now() - startTime);
+            if (!isCancelled)
+                frameRequestId = requestAnimationFrame(this::renderChunk);
+            return null;
+        });
+    }
+
+    private void adaptChunkSize(int chunkRenderedCount, double elapsedMs)
+    {
+        if (elapsedMs <= 0)
+        {
+            chunkSize = chunkRenderedCount * 2;
+            return;
+        }
+
+        // Stay in the frame budget, without growing too fast on a quick frame
+        int fittingSize = (int) (chunkRenderedCount * FRAME_BUDGET_MS / elapsedMs);
+        chunkSize = Math.max(1, Math.min(fittingSize, chunkRenderedCount * 2));
+    }
+
+    @JsFunction
+    @FunctionalInterface
+    private interface FrameCallback
+    {
+        void onFrame(double timestamp);
+    }
+
+    @JsMethod(namespace = JsPackage.GLOBAL)
+    private static native int requestAnimationFrame(FrameCallback callback);
+
+    @JsMethod(namespace = JsPackage.GLOBAL)
+    private static native void cancelAnimationFrame(int requestId);
+
+    @JsMethod(namespace = "performance")
+    private static native double now();
+}
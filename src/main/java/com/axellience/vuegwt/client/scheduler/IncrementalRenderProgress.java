@@ -0,0 +1,17 @@
+package com.axellience.vuegwt.client.scheduler;
+
+/**
+ * Called by an {@link IncrementalRender} each time more items can be rendered.
+ */
+@FunctionalInterface
+public interface IncrementalRenderProgress
+{
+    /**
+     * Called each time more items can be rendered. Update the data of your Component so it
+     * renders this number of items.
+     * @param renderedCount The number of items to render
+     * @param totalCount The total number of items, all of them are rendered when it's equal to
+     * renderedCount
+     */
+    void onProgress(int renderedCount, int totalCount);
+}
@@ -0,0 +1,13 @@
+package com.axellience.vuegwt.client.tools;
+
+import jsinterop.annotations.JsFunction;
+
+/**
+ * Called before a mutation method, to know if the call can change the object it is called on.
+ */
+@FunctionalInterface
+@JsFunction
+public interface MutationCheck<T>
+{
+    boolean mayChange(T object, Object... arguments);
+}
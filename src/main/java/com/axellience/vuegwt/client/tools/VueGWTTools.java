@@ -1,12 +1,15 @@
 package com.axellience.vuegwt.client.tools;
 
+import com.axellience.vuegwt.client.component.ComponentJavaConstructor;
 import com.axellience.vuegwt.client.component.ComponentJavaPrototype;
 import com.axellience.vuegwt.client.component.VueComponent;
 import com.axellience.vuegwt.client.component.options.VueComponentOptions;
 import com.axellience.vuegwt.client.directive.VueDirective;
 import com.axellience.vuegwt.client.jsnative.jstypes.JsArray;
+import com.axellience.vuegwt.client.jsnative.jstypes.JsObject;
 import com.axellience.vuegwt.client.vue.VueJsConstructor;
 import com.google.gwt.regexp.shared.RegExp;
+import jsinterop.annotations.JsIgnore;
 import jsinterop.annotations.JsMethod;
 import jsinterop.annotations.JsType;
 
@@ -27,6 +30,20 @@ public class VueGWTTools
     public static native <T extends VueComponent, K extends T> VueJsConstructor<K> extendVueClass(
         VueJsConstructor<T> vueClassToExtend, VueComponentOptions<K> vueComponentOptions);
 
+    /**
+     * Set the data of the given instance back to its initial values, by calling its data function
+     * and the constructor of its Java class again.
+     * The watchers of the instance ({@link com.axellience.vuegwt.jsr69.component.annotations.Watch}
+     * and $watch) are not called for these changes, the render and computed properties are
+     * updated.
+     * @param instance The instance to reset
+     * @param javaConstructor The constructor of the Java class of the instance, null for
+     * {@link com.axellience.vuegwt.jsr69.component.annotations.JsComponent}s
+     * @param <T> The type of the instance
+     */
+    public static native <T extends VueComponent> void resetInstanceData(T instance,
+        ComponentJavaConstructor<T> javaConstructor);
+
     @JsMethod(name = "wrapMethodWithBefore")
     public static native <T> String wrapMethod(T object, String methodName,
         BeforeMethodCall<T> afterMethodCall);
@@ -38,9 +55,102 @@ public class VueGWTTools
     public static native <T> String wrapMethod(T object, String methodName,
         BeforeMethodCall<T> beforeMethodCall, AfterMethodCall<T> afterMethodCall);
 
+    /**
+     * Mark the prototype of the given object with the given key.
+     * Used to do something only once for all the instances of a Class.
+     * @param object An instance of the Class
+     * @param key The key to mark the prototype with
+     * @return true if the prototype wasn't marked yet, false otherwise
+     */
+    public static native boolean markPrototype(Object object, String key);
+
+    /**
+     * Wrap the given method on the prototype that owns it, this way it's wrapped once for all
+     * the instances.
+     * The afterMethodCall is only called on observed objects, and only once when mutation methods
+     * call each other.
+     * @param object An instance of the Class to wrap
+     * @param methodName The name of the method to wrap
+     * @param afterMethodCall Called after the method, with the instance it was called on
+     * @param <T> The type of the object
+     */
+    @JsIgnore
+    public static <T> void wrapPrototypeMethod(T object, String methodName,
+        AfterMethodCall<T> afterMethodCall)
+    {
+        wrapPrototypeMethod(object, methodName, afterMethodCall, null);
+    }
+
+    /**
+     * Same as {@link #wrapPrototypeMethod(Object, String, AfterMethodCall)}, but calls that can't
+     * change the object are not reported.
+     * @param object An instance of the Class to wrap
+     * @param methodName The name of the method to wrap
+     * @param afterMethodCall Called after the method, with the instance it was called on
+     * @param mutationCheck Called before the method, with the instance it is called on (the view
+     * for views of a collection). When it returns false the afterMethodCall is not called.
+     * @param <T> The type of the object
+     */
+    public static native <T> void wrapPrototypeMethod(T object, String methodName,
+        AfterMethodCall<T> afterMethodCall, MutationCheck<T> mutationCheck);
+
+    /**
+     * Same as {@link #wrapPrototypeMethod(Object, String, AfterMethodCall)}, but the callback is
+     * called before the method. Used for methods that read the object.
+     * @param object An instance of the Class to wrap
+     * @param methodName The name of the method to wrap
+     * @param beforeMethodCall Called before the method, with the instance it is called on
+     * @param <T> The type of the object
+     */
+    public static native <T> void wrapPrototypeMethodWithBefore(T object, String methodName,
+        BeforeMethodCall<T> beforeMethodCall);
+
+    /**
+     * Same as {@link #wrapPrototypeMethod(Object, String, AfterMethodCall)} for methods that read
+     * the object. The callback is called after each call not made by a mutation method, and the
+     * object is not marked as being mutated during the call.
+     * @param object An instance of the Class to wrap
+     * @param methodName The name of the method to wrap
+     * @param afterMethodCall Called after the method, with the instance it was called on
+     * @param <T> The type of the object
+     */
+    public static native <T> void wrapPrototypeReadMethod(T object, String methodName,
+        AfterMethodCall<T> afterMethodCall);
+
+    /**
+     * Mark a view of an observed collection, like the result of subList. The methods wrapped with
+     * {@link #wrapPrototypeMethod(Object, String, AfterMethodCall)} called on the view mute the
+     * observer of the backing collection, and call the given callback once, with the backing
+     * collection, instead of their own.
+     * @param view The view
+     * @param backingCollection The observed collection backing the view
+     * @param afterMethodCall Called after the wrapped methods called on the view
+     * @param <T> The type of the backing collection
+     */
+    public static native <T> void setBackingCollection(Object view, T backingCollection,
+        AfterMethodCall<T> afterMethodCall);
+
+    /**
+     * Copy the methods of our Java Component and the template expressions on the prototype of the
+     * Vue constructor.
+     * @param extendedVueJsConstructor The Vue constructor for our Component
+     * @param componentJavaPrototype The prototype of our Java Component
+     * @param templateExpressions The template expressions by id, can be null
+     * @param <T> The type of our Component
+     */
     public static native <T extends VueComponent> void extendVueConstructorWithJavaPrototype(
         VueJsConstructor<T> extendedVueJsConstructor,
-        ComponentJavaPrototype<T> componentJavaPrototype);
+        ComponentJavaPrototype<T> componentJavaPrototype, JsObject templateExpressions);
+
+    /**
+     * Make the render function of a functional Component work without a Component instance.
+     * The render function gets a light context with the props, the Java methods and the template
+     * expressions of the Component.
+     * @param extendedVueJsConstructor The Vue constructor for our functional Component
+     * @param <T> The type of our Component
+     */
+    public static native <T extends VueComponent> void initFunctionalComponent(
+        VueJsConstructor<T> extendedVueJsConstructor);
 
     public static native <T> JsArray<T> javaArrayToJsArray(Object[] javaArray);
 
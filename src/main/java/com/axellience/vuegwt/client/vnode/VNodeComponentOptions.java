@@ -1,6 +1,7 @@
 package com.axellience.vuegwt.client.vnode;
 
 import com.axellience.vuegwt.client.jsnative.jstypes.JsObject;
+import com.axellience.vuegwt.client.vue.VueJsConstructor;
 import jsinterop.annotations.JsOverlay;
 import jsinterop.annotations.JsPackage;
 import jsinterop.annotations.JsProperty;
@@ -16,6 +17,7 @@ public final class VNodeComponentOptions extends JsObject
     @JsProperty protected Object listeners;
     @JsProperty protected Object children;
     @JsProperty protected String tag;
+    @JsProperty(name = "Ctor") protected VueJsConstructor ctor;
 
     @JsOverlay
     public final Object getPropsData()
@@ -68,4 +70,17 @@ public final class VNodeComponentOptions extends JsObject
         this.tag = tag;
         return this;
     }
+
+    @JsOverlay
+    public final VueJsConstructor getCtor()
+    {
+        return ctor;
+    }
+
+    @JsOverlay
+    public final VNodeComponentOptions setCtor(VueJsConstructor ctor)
+    {
+        this.ctor = ctor;
+        return this;
+    }
 }
@@ -61,14 +61,15 @@ public class VNodeData extends JsObject
     @JsOverlay
     public final VNodeData setKey(int key)
     {
-        this.key = key;
+        // Stored as a JS number, a boxed value would never be equal to the previous key
+        this.key = (double) key;
         return this;
     }
 
     @JsOverlay
     public final VNodeData setKey(float key)
     {
-        this.key = key;
+        this.key = (double) key;
         return this;
     }
 
@@ -0,0 +1,19 @@
+package com.axellience.vuegwt.client.vnode.builder;
+
+import com.axellience.vuegwt.client.vnode.VNode;
+
+/**
+ * Render an item of a collection, see {@link VNodeBuilder#each}.
+ * @param <T> The type of the items
+ */
+@FunctionalInterface
+public interface ItemRenderer<T>
+{
+    /**
+     * Render the given item.
+     * @param item The item to render
+     * @param index The index of the item in the collection
+     * @return The VNode for the item
+     */
+    VNode render(T item, int index);
+}
@@ -0,0 +1,104 @@
+package com.axellience.vuegwt.client.vnode.builder;
+
+import com.axellience.vuegwt.client.jsnative.jstypes.JsArray;
+import com.axellience.vuegwt.client.observer.ListChange;
+import com.axellience.vuegwt.client.observer.ListChangeListener;
+import com.axellience.vuegwt.client.observer.VueGWTObserverManager;
+import com.axellience.vuegwt.client.vnode.VNode;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * The VNodes rendered for the items of an observed List, kept between the renders of a
+ * Component by {@link VNodeBuilder#each(Object, List, Function, Function)}.
+ * <br>
+ * The {@link ListChange} of the List are recorded between two renders. On the next render, they
+ * are applied to the VNodes of the previous render: only the added items are rendered, the other
+ * items keep their VNode and Vue skips them when patching.
+ * @param <T> The type of the items
+ */
+class ListVNodes<T> implements ListChangeListener
+{
+    private final List<T> list;
+    private final List<ListChange> changes = new LinkedList<>();
+    private JsArray<VNode> vNodes;
+    private boolean isReset;
+
+    ListVNodes(List<T> list)
+    {
+        this.list = list;
+        VueGWTObserverManager.addListChangeListener(list, this);
+    }
+
+    @Override
+    public void onChange(List list, ListChange change)
+    {
+        if (isReset)
+            return;
+
+        if (change.isReset())
+        {
+            isReset = true;
+            changes.clear();
+        }
+        else
+        {
+            changes.add(change);
+        }
+    }
+
+    /**
+     * @param list A List
+     * @return true if these VNodes are for the given List
+     */
+    boolean isFor(List<T> list)
+    {
+        return this.list == list;
+    }
+
+    /**
+     * Apply the changes made to the List since the previous render to its VNodes.
+     * @param render Render an item, only called for the items added since the previous render
+     * @return The VNodes of the items
+     */
+    @SuppressWarnings("unchecked")
+    JsArray<VNode> render(Function<T, VNode> render)
+    {
+        if (vNodes != null && !isReset)
+        {
+            for (ListChange change : changes)
+            {
+                JsArray<VNode> addedVNodes = new JsArray<>();
+                for (Object addedItem : change.getAddedItems())
+                    addedVNodes.push(render.apply((T) addedItem));
+
+                vNodes = vNodes
+                    .slice(0, change.getIndex())
+                    .concat(addedVNodes)
+                    .concat(vNodes.slice(change.getIndex() + change.getRemovedCount()));
+            }
+        }
+
+        // A mutation we didn't see, for example made before the List was observed
+        if (vNodes == null || isReset || vNodes.length != list.size())
+        {
+            vNodes = new JsArray<>();
+            for (T item : list)
+                vNodes.push(render.apply(item));
+        }
+
+        changes.clear();
+        isReset = false;
+        return vNodes;
+    }
+
+    /**
+     * Stop listening to the changes of the List.
+     */
+    void dispose()
+    {
+        VueGWTObserverManager.removeListChangeListener(list, this);
+    }
+}
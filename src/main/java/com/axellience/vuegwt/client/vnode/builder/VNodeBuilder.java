@@ -2,21 +2,107 @@ package com.axellience.vuegwt.client.vnode.builder;
 
 import com.axellience.vuegwt.client.VueGWT;
 import com.axellience.vuegwt.client.component.VueComponent;
+import com.axellience.vuegwt.client.component.keepalive.KeepAliveCacheComponent;
+import com.axellience.vuegwt.client.component.keepalive.KeepAliveCacheComponentFactory;
+import com.axellience.vuegwt.client.jsnative.jstypes.JsArray;
+import com.axellience.vuegwt.client.observer.VueGWTObserverManager;
 import com.axellience.vuegwt.client.vnode.VNode;
 import com.axellience.vuegwt.client.vnode.VNodeData;
+import com.axellience.vuegwt.client.tools.JsTools;
 import com.axellience.vuegwt.client.vue.VueFactory;
 import com.axellience.vuegwt.client.vue.VueJsConstructor;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
 /**
  * @author Adrien Baron
  */
 public class VNodeBuilder
 {
+    private static final String MEMOS_PROPERTY = "vuegwt$memos";
+    private static final String LIST_VNODES_PROPERTY = "vuegwt$listVNodes";
+    private static final String UNUSED_LIST_VNODES_PROPERTY = "vuegwt$unusedListVNodes";
+
     private final CreateElementFunction function;
+    private final Map<Object, Memo> previousMemos;
+    private final Map<Object, Memo> memos;
+    private final Map<Object, ListVNodes> previousListVNodes;
+    private final Map<Object, ListVNodes> listVNodes;
 
     public VNodeBuilder(CreateElementFunction function)
     {
         this.function = function;
+        this.previousMemos = null;
+        this.memos = null;
+        this.previousListVNodes = null;
+        this.listVNodes = null;
+    }
+
+    /**
+     * Create a VNodeBuilder for a render of the given Component.
+     * The subtrees memoized during the previous render of the Component can be reused by
+     * {@link #memo(Object, Object[], Supplier)}, and the VNodes of the Lists rendered by {@link
+     * #each(Object, List, Function, Function)} can be patched.
+     * @param component The Component being rendered
+     * @param function The function creating the VNodes
+     */
+    public VNodeBuilder(VueComponent component, CreateElementFunction function)
+    {
+        this.function = function;
+        this.previousMemos = getMemos(component);
+        this.memos = new HashMap<>();
+        JsTools.set(component, MEMOS_PROPERTY, this.memos);
+        this.previousListVNodes = getListVNodes(component, LIST_VNODES_PROPERTY);
+        this.listVNodes = new HashMap<>();
+        JsTools.set(component, LIST_VNODES_PROPERTY, this.listVNodes);
+
+        // The previous render is done, what it didn't take from the render before is unused
+        disposeListVNodes(getListVNodes(component, UNUSED_LIST_VNODES_PROPERTY));
+        JsTools.set(component, UNUSED_LIST_VNODES_PROPERTY, this.previousListVNodes);
+
+        // Components are only rendered after being created, we can listen to their destruction
+        if (this.previousMemos == null && JsTools.get(component, "_isVue") != null)
+        {
+            component.$once("hook:destroyed", event -> {
+                JsTools.delete(component, MEMOS_PROPERTY);
+                disposeListVNodes(getListVNodes(component, LIST_VNODES_PROPERTY));
+                disposeListVNodes(getListVNodes(component, UNUSED_LIST_VNODES_PROPERTY));
+                JsTools.delete(component, LIST_VNODES_PROPERTY);
+                JsTools.delete(component, UNUSED_LIST_VNODES_PROPERTY);
+            });
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Object, Memo> getMemos(VueComponent component)
+    {
+        Object memos = JsTools.get(component, MEMOS_PROPERTY);
+        if (JsTools.isUndefined(memos))
+            return null;
+
+        return (Map<Object, Memo>) memos;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Object, ListVNodes> getListVNodes(VueComponent component,
+        String propertyName)
+    {
+        Object listVNodes = JsTools.get(component, propertyName);
+        if (JsTools.isUndefined(listVNodes))
+            return null;
+
+        return (Map<Object, ListVNodes>) listVNodes;
+    }
+
+    private static void disposeListVNodes(Map<Object, ListVNodes> listVNodes)
+    {
+        if (listVNodes != null)
+            listVNodes.values().forEach(ListVNodes::dispose);
     }
 
     /**
@@ -84,4 +170,168 @@ public class VNodeBuilder
     {
         return this.function.create(vueJsConstructor, children, null);
     }
+
+    /**
+     * Render each item of the given collection, the same way as v-for.
+     * Each VNode gets the key of its item, so Vue can move the existing elements when the
+     * collection changes instead of patching all of them.
+     * <br>
+     * The result can be passed as a child to the el methods:
+     * <pre>
+     * builder.el("ul", builder.each(todos, Todo::getId, (todo, index) -&gt; builder.el("li", todo.getText())));
+     * </pre>
+     * Keys must be unique in the collection. Keys that are not a String or a number are converted
+     * to String, as Vue compares keys by identity.
+     * @param items The items to render
+     * @param key Give the key of each item, if null the index of the items is used
+     * @param render Render each item
+     * @param <T> The type of the items
+     * @return The VNodes of the items
+     */
+    public <T> JsArray<VNode> each(Iterable<T> items, Function<T, Object> key,
+        ItemRenderer<T> render)
+    {
+        JsArray<VNode> vNodes = new JsArray<>();
+        int index = 0;
+        for (T item : items)
+        {
+            VNode vNode = render.render(item, index);
+            if (key == null)
+                vNode.setKey((double) index);
+            else
+                vNode.setKey(toVueKey(key.apply(item)));
+
+            vNodes.push(vNode);
+            index++;
+        }
+
+        return vNodes;
+    }
+
+    /**
+     * Render each item of the given List, and keep the VNodes of the items for the next render.
+     * <br>
+     * The changes made to the List are recorded between two renders of the Component. On the
+     * next render, only the items added to the List since the previous render are rendered, the
+     * other items keep the VNode from the previous render and Vue skips them when patching.
+     * <pre>
+     * builder.el("ul", builder.each("todos", todos, Todo::getId, todo -&gt; builder.el("li", todo.getText())));
+     * </pre>
+     * An item is only rendered again when it's set or added again in the List, so its VNode
+     * should only depend on the item, like with {@link #memo(Object, Object[], Supplier)}. This
+     * works best with immutable items. If the List is not observed by Vue, all the items are
+     * rendered on each render.
+     * <br>
+     * VNodes of Lists not rendered during a render are forgotten, and all of them are forgotten
+     * when the Component is destroyed.
+     * @param cacheKey A key identifying the List in the render function, unique for each render
+     * @param items The items to render
+     * @param key Give the key of each item
+     * @param render Render each item
+     * @param <T> The type of the items
+     * @return The VNodes of the items
+     */
+    @SuppressWarnings("unchecked")
+    public <T> JsArray<VNode> each(Object cacheKey, List<T> items, Function<T, Object> key,
+        Function<T, VNode> render)
+    {
+        // Builders created without a Component have nowhere to keep the VNodes
+        if (listVNodes == null || VueGWTObserverManager.getVueObserver(items) == null)
+            return each(items, key, (item, index) -> render.apply(item));
+
+        ListVNodes<T> itemsVNodes =
+            previousListVNodes != null ? previousListVNodes.remove(cacheKey) : null;
+        if (itemsVNodes != null && !itemsVNodes.isFor(items))
+        {
+            itemsVNodes.dispose();
+            itemsVNodes = null;
+        }
+        if (itemsVNodes == null)
+            itemsVNodes = new ListVNodes<>(items);
+
+        listVNodes.put(cacheKey, itemsVNodes);
+        return itemsVNodes.render(item -> {
+            VNode vNode = render.apply(item);
+            vNode.setKey(toVueKey(key.apply(item)));
+            return vNode;
+        });
+    }
+
+    private static Object toVueKey(Object key)
+    {
+        // Boxed Java values like Integer are objects in JS, they would never be equal
+        if (key == null || key instanceof String || key instanceof Double)
+            return key;
+
+        return String.valueOf(key);
+    }
+
+    /**
+     * Reuse the subtree created for the given key during the previous render if the
+     * dependencies are equal to the ones it was created with, create it otherwise.
+     * <br>
+     * When the subtree is reused, Vue sees the same VNode as in the previous render and skips
+     * it entirely when patching. Everything the subtree depends on must be in the dependencies:
+     * it is not created again if something else changes.
+     * <br>
+     * Subtrees not used during a render are dropped, and all of them are dropped when the
+     * Component is destroyed.
+     * @param key A key identifying the subtree in the render function, unique for each render
+     * @param deps The values the subtree depends on, compared with {@link Object#equals(Object)}
+     * @param subtree Create the subtree
+     * @return The subtree
+     */
+    public VNode memo(Object key, Object[] deps, Supplier<VNode> subtree)
+    {
+        // Builders created without a Component have nowhere to keep the subtrees
+        if (memos == null)
+            return subtree.get();
+
+        Memo memo = previousMemos != null ? previousMemos.get(key) : null;
+        if (memo == null || !Arrays.equals(memo.deps, deps))
+            memo = new Memo(deps, subtree.get());
+
+        memos.put(key, memo);
+        return memo.vNode;
+    }
+
+    /**
+     * Keep the instances of the Components displayed in the given child alive when switching
+     * between them, with at most max instances kept.
+     * @param max Maximum number of instances kept, 0 to keep all of them
+     * @param child The VNode of the Component to display
+     * @return a new VNode of a {@link KeepAliveCacheComponent}
+     */
+    public VNode keepAlive(int max, VNode child)
+    {
+        // Stored as a JS number, a boxed Integer would fail the Number validation of the prop
+        return keepAlive(VNodeData.get().prop("max", (double) max), child);
+    }
+
+    /**
+     * Keep the instances of the Components displayed in the given child alive when switching
+     * between them. The data can set the props of the {@link KeepAliveCacheComponent} (max,
+     * include, exclude) and listen to its evict event.
+     * @param data Information for the {@link KeepAliveCacheComponent}
+     * @param child The VNode of the Component to display
+     * @return a new VNode of a {@link KeepAliveCacheComponent}
+     */
+    public VNode keepAlive(VNodeData data, VNode child)
+    {
+        return this.function.create(KeepAliveCacheComponentFactory.get().getJsConstructor(),
+            data,
+            new Object[] { child });
+    }
+
+    private static class Memo
+    {
+        private final Object[] deps;
+        private final VNode vNode;
+
+        private Memo(Object[] deps, VNode vNode)
+        {
+            this.deps = deps;
+            this.vNode = vNode;
+        }
+    }
 }
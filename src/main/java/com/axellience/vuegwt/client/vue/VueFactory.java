@@ -1,29 +1,124 @@
 package com.axellience.vuegwt.client.vue;
 
 import com.axellience.vuegwt.client.component.VueComponent;
+import com.axellience.vuegwt.client.tools.JsTools;
+import com.axellience.vuegwt.client.tools.VueGWTTools;
 import com.axellience.vuegwt.jsr69.component.annotations.Component;
 import com.axellience.vuegwt.jsr69.component.annotations.JsComponent;
+import com.google.gwt.dom.client.Element;
 import jsinterop.annotations.JsType;
 
+import java.util.LinkedList;
+
 /**
  * A factory to create {@link VueComponent}s.
  * All the {@link Component} and {@link JsComponent} get a generated {@link VueFactory}.
  * It wraps a {@link VueJsConstructor} that is configured when the factory is created.
  * It can be injected with Gin or Dagger2.
+ * <br>
+ * For Components created and destroyed often, instances can be reused with {@link #acquire()}
+ * and {@link #release(VueComponent)} instead of {@link #create()} and $destroy.
  * @author Adrien Baron
  */
 @JsType
 public class VueFactory<T extends VueComponent>
 {
+    private static final int DEFAULT_MAX_POOL_SIZE = 10;
+
     protected VueJsConstructor<T> jsConstructor;
 
+    private final LinkedList<T> pool = new LinkedList<>();
+    private int maxPoolSize = DEFAULT_MAX_POOL_SIZE;
+
     public final T create()
     {
         return jsConstructor.instantiate();
     }
 
+    /**
+     * Return an instance released to this factory, or a new one if there is none.
+     * The instance is mounted, but not in the document: insert its $el where it should be
+     * displayed.
+     * @return A mounted instance
+     */
+    public final T acquire()
+    {
+        if (!pool.isEmpty())
+            return pool.removeLast();
+
+        T instance = create();
+        instance.$mount();
+        return instance;
+    }
+
+    /**
+     * Give back an instance from {@link #acquire()} once it's not displayed anymore.
+     * Its element is removed from the document, and its data is initialized again: its data
+     * function and the constructor of its Java class are called again. Its @Watch methods and
+     * $watch handlers are not called for this reset.
+     * <br>
+     * Everything else is kept: its props, the listeners added with $on, its injected
+     * dependencies, its watchers and its element. Its created and mounted hooks are not called
+     * again. This way it can be returned by the next call to acquire.
+     * <br>
+     * If the pool already holds its maximum number of instances, the instance is destroyed.
+     * @param instance The instance to release
+     */
+    public final void release(T instance)
+    {
+        removeFromDocument(instance);
+        if (pool.contains(instance) || Boolean.TRUE.equals(JsTools.get(instance, "_isDestroyed")))
+            return;
+
+        if (pool.size() >= maxPoolSize)
+        {
+            instance.$destroy();
+            return;
+        }
+
+        VueGWTTools.resetInstanceData(instance,
+            jsConstructor.getOptions().getComponentJavaConstructor());
+        pool.add(instance);
+    }
+
+    /**
+     * Set the maximum number of released instances kept for reuse, 10 by default.
+     * Instances over this limit are destroyed.
+     * @param maxPoolSize The maximum number of instances in the pool
+     */
+    public final void setMaxPoolSize(int maxPoolSize)
+    {
+        this.maxPoolSize = maxPoolSize;
+        while (pool.size() > maxPoolSize)
+            pool.removeFirst().$destroy();
+    }
+
+    /**
+     * @return The number of released instances waiting to be reused
+     */
+    public final int getPoolSize()
+    {
+        return pool.size();
+    }
+
+    /**
+     * Destroy all the released instances.
+     */
+    public final void clearPool()
+    {
+        while (!pool.isEmpty())
+            pool.removeFirst().$destroy();
+    }
+
     public VueJsConstructor<T> getJsConstructor()
     {
         return jsConstructor;
     }
+
+    private void removeFromDocument(T instance)
+    {
+        Element element = instance.$el();
+        if (element != null && element.getParentElement() != null)
+            element.removeFromParent();
+    }
 }
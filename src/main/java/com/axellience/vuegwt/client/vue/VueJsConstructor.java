@@ -42,7 +42,8 @@ public class VueJsConstructor<T extends VueComponent> extends JsFunction
         componentOptions.addAllProviders(getOptions().getProviders());
         VueJsConstructor<K> extendedVueJsConstructor = extend(componentOptions);
         VueGWTTools.extendVueConstructorWithJavaPrototype(extendedVueJsConstructor,
-            componentOptions.getComponentJavaPrototype());
+            componentOptions.getComponentJavaPrototype(),
+            componentOptions.getTemplateExpressions());
 
         return extendedVueJsConstructor;
     }
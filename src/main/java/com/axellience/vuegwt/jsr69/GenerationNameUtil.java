@@ -25,6 +25,9 @@ public class GenerationNameUtil
 
     private static String DIRECTIVE_OPTIONS_SUFFIX = "Options";
 
+    private static String REACTIVE_MODEL_MANIFEST_SUFFIX = "ReactiveManifest";
+    private static String NON_REACTIVE_MARKER_SUFFIX = "NonReactiveMarker";
+
     public static ClassName componentJsTypeName(TypeElement component)
     {
         return nameWithSuffix(component, COMPONENT_JS_TYPE_SUFFIX);
@@ -85,6 +88,29 @@ public class GenerationNameUtil
         return nameWithSuffix(directive, DIRECTIVE_OPTIONS_SUFFIX);
     }
 
+    public static ClassName reactiveModelManifestName(TypeElement model)
+    {
+        return nameWithSuffix(model, REACTIVE_MODEL_MANIFEST_SUFFIX);
+    }
+
+    public static ClassName nonReactiveMarkerName(TypeElement model)
+    {
+        return nameWithSuffix(model, NON_REACTIVE_MARKER_SUFFIX);
+    }
+
+    /**
+     * Name under which the manifest of a ReactiveModel is exported in JS.
+     * Also used for the marker of NonReactive classes.
+     * Must match the name computed at runtime from the class canonical name in
+     * VueGWTObserverManager.
+     * @param model The ReactiveModel class
+     * @return The JS name of the manifest
+     */
+    public static String reactiveModelManifestJsName(TypeElement model)
+    {
+        return model.getQualifiedName().toString().replace('.', '_');
+    }
+
     public static ClassName nameWithSuffix(TypeElement type, String suffix)
     {
         return nameWithSuffix(type.getQualifiedName().toString(), suffix);
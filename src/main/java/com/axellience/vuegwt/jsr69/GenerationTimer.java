@@ -0,0 +1,113 @@
+package com.axellience.vuegwt.jsr69;
+
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic.Kind;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.Supplier;
+
+/**
+ * Measure the time spent in each of our generators.
+ * Timing is only done if the {@link #TIMING_OPTION} option is passed to the annotation processor
+ * (-Avuegwt.timing=true). It then prints the time spent by each generator on each type, and a
+ * summary for the whole compilation.
+ */
+public class GenerationTimer
+{
+    public static final String TIMING_OPTION = "vuegwt.timing";
+
+    private final Messager messager;
+    private final boolean isEnabled;
+
+    private final Map<String, Long> totalTimeByGenerator = new LinkedHashMap<>();
+    private final Map<String, Integer> countByGenerator = new LinkedHashMap<>();
+
+    public GenerationTimer(ProcessingEnvironment processingEnvironment)
+    {
+        this.messager = processingEnvironment.getMessager();
+        this.isEnabled =
+            Boolean.parseBoolean(processingEnvironment.getOptions().get(TIMING_OPTION));
+    }
+
+    /**
+     * Run the given generation, and measure it if timing is enabled.
+     * @param generatorName The name of the generator, used in the output
+     * @param type The type we are generating for
+     * @param generation The generation to run
+     */
+    public void time(String generatorName, TypeElement type, Runnable generation)
+    {
+        time(generatorName, type, () -> {
+            generation.run();
+            return null;
+        });
+    }
+
+    /**
+     * Run the given generation, and measure it if timing is enabled.
+     * @param generatorName The name of the generator, used in the output
+     * @param type The type we are generating for
+     * @param generation The generation to run
+     * @param <T> The type of the generation result
+     * @return The result of the generation
+     */
+    public <T> T time(String generatorName, TypeElement type, Supplier<T> generation)
+    {
+        if (!isEnabled)
+            return generation.get();
+
+        long start = System.nanoTime();
+        T result = generation.get();
+        long duration = System.nanoTime() - start;
+
+        totalTimeByGenerator.merge(generatorName, duration, Long::sum);
+        countByGenerator.merge(generatorName, 1, Integer::sum);
+
+        messager.printMessage(Kind.NOTE,
+            "[Vue GWT] "
+                + generatorName
+                + " on "
+                + type.getQualifiedName()
+                + ": "
+                + toMillis(duration)
+                + "ms");
+
+        return result;
+    }
+
+    /**
+     * Print the total time spent in each generator since the beginning of the compilation.
+     */
+    public void printSummary()
+    {
+        if (!isEnabled || totalTimeByGenerator.isEmpty())
+            return;
+
+        StringBuilder summary = new StringBuilder("[Vue GWT] Generation time summary:");
+        long total = 0;
+        for (Entry<String, Long> entry : totalTimeByGenerator.entrySet())
+        {
+            String generatorName = entry.getKey();
+            total += entry.getValue();
+            summary
+                .append("\n    ")
+                .append(generatorName)
+                .append(": ")
+                .append(toMillis(entry.getValue()))
+                .append("ms for ")
+                .append(countByGenerator.get(generatorName))
+                .append(" types");
+        }
+        summary.append("\n    Total: ").append(toMillis(total)).append("ms");
+
+        messager.printMessage(Kind.NOTE, summary.toString());
+    }
+
+    private String toMillis(long nanoseconds)
+    {
+        return String.format("%.2f", nanoseconds / 1_000_000d);
+    }
+}
@@ -1,6 +1,8 @@
 package com.axellience.vuegwt.jsr69;
 
+import com.axellience.vuegwt.jsr69.component.ComponentInjectedDependenciesBuilder;
 import com.axellience.vuegwt.jsr69.component.ComponentJsTypeGenerator;
+import com.axellience.vuegwt.jsr69.component.ComponentModelRegistry;
 import com.axellience.vuegwt.jsr69.component.annotations.Component;
 import com.axellience.vuegwt.jsr69.component.annotations.JsComponent;
 import com.axellience.vuegwt.jsr69.component.factory.VueComponentFactoryGenerator;
@@ -8,6 +10,9 @@ import com.axellience.vuegwt.jsr69.component.factory.VueJsComponentFactoryGenera
 import com.axellience.vuegwt.jsr69.component.template.TemplateBundleGenerator;
 import com.axellience.vuegwt.jsr69.directive.VueDirectiveOptionsGenerator;
 import com.axellience.vuegwt.jsr69.directive.annotations.Directive;
+import com.axellience.vuegwt.jsr69.observer.ReactiveModelManifestGenerator;
+import com.axellience.vuegwt.jsr69.observer.annotations.NonReactive;
+import com.axellience.vuegwt.jsr69.observer.annotations.ReactiveModel;
 import com.axellience.vuegwt.jsr69.style.StyleProviderGenerator;
 import com.axellience.vuegwt.jsr69.style.annotations.Style;
 
@@ -15,13 +20,17 @@ import javax.annotation.processing.AbstractProcessor;
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.annotation.processing.RoundEnvironment;
 import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
 import javax.annotation.processing.SupportedSourceVersion;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
 import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
 import java.util.Set;
 
+import static com.axellience.vuegwt.jsr69.GenerationUtil.hasAnnotation;
 import static com.axellience.vuegwt.jsr69.component.ComponentGenerationUtil.hasTemplate;
 
 @SupportedAnnotationTypes({
@@ -29,15 +38,21 @@ import static com.axellience.vuegwt.jsr69.component.ComponentGenerationUtil.hasT
     "com.axellience.vuegwt.jsr69.component.annotations.JsComponent",
     "com.axellience.vuegwt.jsr69.directive.annotations.Directive",
     "com.axellience.vuegwt.jsr69.style.annotations.Style",
+    "com.axellience.vuegwt.jsr69.observer.annotations.ReactiveModel",
+    "com.axellience.vuegwt.jsr69.observer.annotations.NonReactive",
     "com.axellience.vuegwt.jsr69.inject.annotations.VueInjector"
 })
 @SupportedSourceVersion(SourceVersion.RELEASE_8)
+@SupportedOptions(GenerationTimer.TIMING_OPTION)
 public class VueGwtProcessor extends AbstractProcessor
 {
+    private GenerationTimer timer;
+
     @Override
     public synchronized void init(ProcessingEnvironment processingEnv)
     {
         super.init(processingEnv);
+        timer = new GenerationTimer(processingEnv);
     }
 
     @Override
@@ -45,9 +60,13 @@ public class VueGwtProcessor extends AbstractProcessor
     {
         this.processStyleAnnotations(roundEnv);
         this.processDirectiveAnnotations(roundEnv);
+        this.processReactiveModelAnnotations(roundEnv);
         this.processComponentAnnotations(roundEnv);
         this.processJsComponentAnnotations(roundEnv);
 
+        if (roundEnv.processingOver())
+            timer.printSummary();
+
         // claim the annotation
         return true;
     }
@@ -59,7 +78,9 @@ public class VueGwtProcessor extends AbstractProcessor
         StyleProviderGenerator styleProviderGenerator = new StyleProviderGenerator(processingEnv);
         for (TypeElement element : ElementFilter.typesIn(annotatedElements))
         {
-            styleProviderGenerator.generate(element);
+            timer.time("StyleProviderGenerator",
+                element,
+                () -> styleProviderGenerator.generate(element));
         }
     }
 
@@ -72,7 +93,45 @@ public class VueGwtProcessor extends AbstractProcessor
             new VueDirectiveOptionsGenerator(processingEnv);
         for (TypeElement element : ElementFilter.typesIn(annotatedElements))
         {
-            vueDirectiveOptionsGenerator.generate(element);
+            timer.time("VueDirectiveOptionsGenerator",
+                element,
+                () -> vueDirectiveOptionsGenerator.generate(element));
+        }
+    }
+
+    private void processReactiveModelAnnotations(RoundEnvironment roundEnv)
+    {
+        Set<? extends Element> annotatedElements =
+            roundEnv.getElementsAnnotatedWith(ReactiveModel.class);
+
+        ReactiveModelManifestGenerator reactiveModelManifestGenerator =
+            new ReactiveModelManifestGenerator(processingEnv);
+        for (TypeElement element : ElementFilter.typesIn(annotatedElements))
+        {
+            timer.time("ReactiveModelManifestGenerator",
+                element,
+                () -> reactiveModelManifestGenerator.generate(element));
+        }
+
+        Set<? extends Element> nonReactiveElements =
+            roundEnv.getElementsAnnotatedWith(NonReactive.class);
+        for (TypeElement element : ElementFilter.typesIn(nonReactiveElements))
+        {
+            timer.time("ReactiveModelManifestGenerator",
+                element,
+                () -> reactiveModelManifestGenerator.generateNonReactiveMarker(element));
+        }
+
+        for (VariableElement field : ElementFilter.fieldsIn(nonReactiveElements))
+        {
+            if (!hasAnnotation(field.getEnclosingElement(), Component.class))
+                processingEnv
+                    .getMessager()
+                    .printMessage(Kind.WARNING,
+                        "@NonReactive is only supported on fields of Components, field "
+                            + field.getSimpleName()
+                            + " will still be observed. Put @NonReactive on the class of its value instead.",
+                        field);
         }
     }
 
@@ -81,21 +140,34 @@ public class VueGwtProcessor extends AbstractProcessor
         Set<? extends Element> componentElements =
             roundEnv.getElementsAnnotatedWith(Component.class);
 
+        ComponentModelRegistry componentModels = new ComponentModelRegistry(processingEnv);
         ComponentJsTypeGenerator componentJsTypeGenerator =
-            new ComponentJsTypeGenerator(processingEnv);
+            new ComponentJsTypeGenerator(processingEnv, componentModels);
         TemplateBundleGenerator templateBundleGenerator =
             new TemplateBundleGenerator(processingEnv);
         VueComponentFactoryGenerator vueFactoryGenerator =
-            new VueComponentFactoryGenerator(processingEnv);
+            new VueComponentFactoryGenerator(processingEnv, componentModels);
 
         for (TypeElement componentType : ElementFilter.typesIn(componentElements))
         {
             if (hasTemplate(processingEnv, componentType))
             {
-                templateBundleGenerator.generate(componentType);
+                timer.time("TemplateBundleGenerator",
+                    componentType,
+                    () -> templateBundleGenerator.generate(componentType));
             }
-            vueFactoryGenerator.generate(componentType);
-            componentJsTypeGenerator.generate(componentType);
+            timer.time("VueComponentFactoryGenerator",
+                componentType,
+                () -> vueFactoryGenerator.generate(componentType));
+
+            ComponentInjectedDependenciesBuilder dependenciesBuilder =
+                timer.time("ComponentInjectedDependenciesBuilder",
+                    componentType,
+                    () -> new ComponentInjectedDependenciesBuilder(processingEnv,
+                        componentModels.get(componentType)));
+            timer.time("ComponentJsTypeGenerator",
+                componentType,
+                () -> componentJsTypeGenerator.generate(componentType, dependenciesBuilder));
         }
     }
 
@@ -109,7 +181,9 @@ public class VueGwtProcessor extends AbstractProcessor
 
         for (TypeElement element : ElementFilter.typesIn(annotatedElements))
         {
-            vueJsComponentRegistrationGenerator.generate(element);
+            timer.time("VueJsComponentFactoryGenerator",
+                element,
+                () -> vueJsComponentRegistrationGenerator.generate(element));
         }
     }
 }
\ No newline at end of file
@@ -20,6 +20,9 @@ import jsinterop.annotations.JsType;
 
 import javax.annotation.processing.Messager;
 import javax.annotation.processing.ProcessingEnvironment;
+import javax.inject.Inject;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
@@ -248,18 +251,6 @@ public class ComponentGenerationUtil
         return Optional.of((TypeElement) ((DeclaredType) component.getSuperclass()).asElement());
     }
 
-    /**
-     * Return the number of super component in the chain of parents
-     * @param component The {@link VueComponent} to count the super type of
-     * @return The number of super components
-     */
-    public static int getSuperComponentCount(TypeElement component)
-    {
-        return getSuperComponentType(component)
-            .map(superComponent -> getSuperComponentCount(superComponent) + 1)
-            .orElse(0);
-    }
-
     /**
      * Check if the given Component has a Template.
      * It doesn't have a template if the class is abstract, if it implements render function
@@ -280,4 +271,23 @@ public class ComponentGenerationUtil
 
         return !hasInterface(processingEnvironment, component.asType(), HasRender.class);
     }
-}
\ No newline at end of file
+
+    /**
+     * Check if the given element has an Inject annotation. Either the one from Google Gin, or the
+     * javax one. We don't want to depend on Gin, so we check the google one based on qualifiedName
+     * @param element The element we want to check
+     * @return True if has an Inject annotation, false otherwise
+     */
+    public static boolean hasInjectAnnotation(Element element)
+    {
+        for (AnnotationMirror annotationMirror : element.getAnnotationMirrors())
+        {
+            String annotationQualifiedName = annotationMirror.getAnnotationType().toString();
+            if (annotationQualifiedName.equals(Inject.class.getCanonicalName()))
+                return true;
+            if (annotationQualifiedName.equals("com.google.inject.Inject"))
+                return true;
+        }
+        return false;
+    }
+}
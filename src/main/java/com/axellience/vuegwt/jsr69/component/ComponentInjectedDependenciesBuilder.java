@@ -12,14 +12,12 @@ import com.squareup.javapoet.TypeSpec.Builder;
 import javax.annotation.processing.Messager;
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.inject.Inject;
-import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
-import javax.lang.model.util.ElementFilter;
 import javax.tools.Diagnostic.Kind;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -28,6 +26,7 @@ import java.util.Map;
 import java.util.stream.Collectors;
 
 import static com.axellience.vuegwt.jsr69.GenerationNameUtil.componentInjectedDependenciesName;
+import static com.axellience.vuegwt.jsr69.component.ComponentGenerationUtil.hasInjectAnnotation;
 import static com.axellience.vuegwt.jsr69.component.ComponentGenerationUtil.resolveVariableTypeName;
 
 /**
@@ -43,9 +42,10 @@ public class ComponentInjectedDependenciesBuilder
     private final Map<String, List<String>> injectedParametersByMethod = new HashMap<>();
 
     public ComponentInjectedDependenciesBuilder(ProcessingEnvironment processingEnvironment,
-        TypeElement component)
+        ComponentModel componentModel)
     {
         this.messager = processingEnvironment.getMessager();
+        TypeElement component = componentModel.getType();
 
         // Template resource abstract class
         ClassName componentInjectedDependenciesName = componentInjectedDependenciesName(component);
@@ -53,8 +53,8 @@ public class ComponentInjectedDependenciesBuilder
         componentInjectedDependenciesBuilder =
             TypeSpec.classBuilder(componentInjectedDependenciesName).addModifiers(Modifier.PUBLIC);
 
-        processInjectedFields(component);
-        processInjectedMethods(component);
+        processInjectedFields(componentModel);
+        processInjectedMethods(componentModel);
 
         // Generate the file
         GenerationUtil.toJavaFile(processingEnvironment.getFiler(),
@@ -65,15 +65,15 @@ public class ComponentInjectedDependenciesBuilder
 
     /**
      * Process all the injected fields from our Component.
-     * @param component The {@link VueComponent} we are processing
+     * @param component Model of the {@link VueComponent} we are processing
      */
-    private void processInjectedFields(TypeElement component)
+    private void processInjectedFields(ComponentModel component)
     {
         // Get the list of fields to copy over
-        List<VariableElement> injectedFields = ElementFilter
-            .fieldsIn(component.getEnclosedElements())
+        List<VariableElement> injectedFields = component
+            .getFields()
             .stream()
-            .filter(this::hasInjectAnnotation)
+            .filter(ComponentGenerationUtil::hasInjectAnnotation)
             .peek(this::validateField)
             .collect(Collectors.toList());
 
@@ -86,14 +86,14 @@ public class ComponentInjectedDependenciesBuilder
 
     /**
      * Process all the injected methods from our Component.
-     * @param component The {@link VueComponent} we are processing
+     * @param component Model of the {@link VueComponent} we are processing
      */
-    private void processInjectedMethods(TypeElement component)
+    private void processInjectedMethods(ComponentModel component)
     {
-        List<ExecutableElement> injectedMethods = ElementFilter
-            .methodsIn(component.getEnclosedElements())
+        List<ExecutableElement> injectedMethods = component
+            .getMethods()
             .stream()
-            .filter(this::hasInjectAnnotation)
+            .filter(ComponentGenerationUtil::hasInjectAnnotation)
             .peek(this::validateMethod)
             .collect(Collectors.toList());
 
@@ -198,25 +198,6 @@ public class ComponentInjectedDependenciesBuilder
         componentInjectedDependenciesBuilder.addField(fieldBuilder.build());
     }
 
-    /**
-     * Check if the given element has an Inject annotation. Either the one from Google Gin, or the
-     * javax one. We don't want to depend on Gin, so we check the google one based on qualifiedName
-     * @param element The element we want to check
-     * @return True if has an Inject annotation, false otherwise
-     */
-    private boolean hasInjectAnnotation(Element element)
-    {
-        for (AnnotationMirror annotationMirror : element.getAnnotationMirrors())
-        {
-            String annotationQualifiedName = annotationMirror.getAnnotationType().toString();
-            if (annotationQualifiedName.equals(Inject.class.getCanonicalName()))
-                return true;
-            if (annotationQualifiedName.equals("com.google.inject.Inject"))
-                return true;
-        }
-        return false;
-    }
-
     /**
      * Return true if the component instance has injected dependencies
      * @return true if the component instance has injected dependencies, false otherwise
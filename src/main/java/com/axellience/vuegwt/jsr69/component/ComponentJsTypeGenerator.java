@@ -15,9 +15,9 @@ import com.axellience.vuegwt.client.vnode.builder.CreateElementFunction;
 import com.axellience.vuegwt.client.vnode.builder.VNodeBuilder;
 import com.axellience.vuegwt.client.vue.VueJsConstructor;
 import com.axellience.vuegwt.jsr69.GenerationUtil;
+import com.axellience.vuegwt.jsr69.component.annotations.BoundMethod;
 import com.axellience.vuegwt.jsr69.component.annotations.Component;
 import com.axellience.vuegwt.jsr69.component.annotations.Computed;
-import com.axellience.vuegwt.jsr69.component.annotations.HookMethod;
 import com.axellience.vuegwt.jsr69.component.annotations.Prop;
 import com.axellience.vuegwt.jsr69.component.annotations.PropDefault;
 import com.axellience.vuegwt.jsr69.component.annotations.PropValidator;
@@ -30,6 +30,7 @@ import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
 import com.squareup.javapoet.TypeSpec.Builder;
+import jsinterop.annotations.JsIgnore;
 import jsinterop.annotations.JsType;
 
 import javax.annotation.processing.Filer;
@@ -38,18 +39,14 @@ import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
-import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeMirror;
-import javax.lang.model.util.ElementFilter;
-import javax.lang.model.util.Elements;
 import javax.tools.Diagnostic.Kind;
-import java.lang.annotation.Annotation;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import static com.axellience.vuegwt.jsr69.GenerationNameUtil.*;
 import static com.axellience.vuegwt.jsr69.GenerationUtil.hasAnnotation;
@@ -69,18 +66,31 @@ public class ComponentJsTypeGenerator
     private final ProcessingEnvironment processingEnv;
     private final Filer filer;
     private final Messager messager;
-    private final Elements elements;
+    private final ComponentModelRegistry componentModels;
 
-    public ComponentJsTypeGenerator(ProcessingEnvironment processingEnvironment)
+    public ComponentJsTypeGenerator(ProcessingEnvironment processingEnvironment,
+        ComponentModelRegistry componentModels)
     {
         processingEnv = processingEnvironment;
         filer = processingEnvironment.getFiler();
         messager = processingEnvironment.getMessager();
-        elements = processingEnvironment.getElementUtils();
+        this.componentModels = componentModels;
     }
 
-    public void generate(TypeElement component)
+    /**
+     * Generate the JsType and the {@link VueComponentOptions} for the given {@link VueComponent}.
+     * @param component The {@link VueComponent} we are generating for
+     * @param dependenciesBuilder Builder for our component dependencies, needed to inject the
+     * dependencies in the instance
+     */
+    public void generate(TypeElement component,
+        ComponentInjectedDependenciesBuilder dependenciesBuilder)
     {
+        ComponentModel componentModel = componentModels.get(component);
+        boolean isFunctional = component.getAnnotation(Component.class).functional();
+        if (isFunctional)
+            checkFunctionalComponent(componentModel, dependenciesBuilder);
+
         // Template resource abstract class
         ClassName componentWithSuffixClassName = componentJsTypeName(component);
 
@@ -90,21 +100,23 @@ public class ComponentJsTypeGenerator
         // Initialize Options getter builder
         MethodSpec.Builder optionsBuilder = getOptionsMethodBuilder(component);
 
-        ComponentInjectedDependenciesBuilder dependenciesBuilder =
-            new ComponentInjectedDependenciesBuilder(processingEnv, component);
-
-        Set<ExecutableElement> hookMethodsFromInterfaces = getHookMethodsFromInterfaces(component);
-
-        processData(component, optionsBuilder);
-        processProps(component, optionsBuilder);
-        processComputed(component, optionsBuilder, componentJsTypeBuilder);
-        processWatchers(component, optionsBuilder, componentJsTypeBuilder);
-        processPropValidators(component, optionsBuilder, componentJsTypeBuilder);
-        processPropDefaultValues(component, optionsBuilder, componentJsTypeBuilder);
-        processHooks(component, optionsBuilder, hookMethodsFromInterfaces);
-        processTemplateMethods(component, optionsBuilder, hookMethodsFromInterfaces);
+        processData(componentModel, optionsBuilder);
+        processProps(componentModel, optionsBuilder);
+        processComputed(componentModel, optionsBuilder, componentJsTypeBuilder);
+        processWatchers(componentModel, optionsBuilder, componentJsTypeBuilder);
+        processPropValidators(componentModel, optionsBuilder, componentJsTypeBuilder);
+        processPropDefaultValues(componentModel, optionsBuilder, componentJsTypeBuilder);
+        if (!isFunctional)
+            processHooks(componentModel, optionsBuilder);
+        processTemplateMethods(componentModel, optionsBuilder);
         processRenderFunction(component, optionsBuilder, componentJsTypeBuilder);
-        createCreatedHook(component, optionsBuilder, componentJsTypeBuilder, dependenciesBuilder);
+        if (!isFunctional)
+        {
+            createCreatedHook(componentModel,
+                optionsBuilder,
+                componentJsTypeBuilder,
+                dependenciesBuilder);
+        }
 
         // Finish building Options getter
         optionsBuilder.addStatement("return options");
@@ -141,15 +153,20 @@ public class ComponentJsTypeGenerator
             .addMember("name", "$S", component.getQualifiedName().toString().replaceAll("\\.", "_"))
             .build());
 
-        // Add a block that registers the VueFactory for the VueComponent
-        componentJsTypeBuilder.addStaticBlock(CodeBlock
-            .builder()
-            .addStatement("$T.onReady(() -> $T.register($S, () -> $T.get()))",
-                VueGWT.class,
-                VueGWT.class,
-                component.getQualifiedName(),
-                componentFactoryName(component))
-            .build());
+        // Add a block that registers the VueFactory for the VueComponent.
+        // Async Components are registered by their VueFactory once their split point is loaded,
+        // referencing the VueFactory here would keep it in the initial fragment.
+        if (!component.getAnnotation(Component.class).async())
+        {
+            componentJsTypeBuilder.addStaticBlock(CodeBlock
+                .builder()
+                .addStatement("$T.onReady(() -> $T.register($S, () -> $T.get()))",
+                    VueGWT.class,
+                    VueGWT.class,
+                    component.getQualifiedName(),
+                    componentFactoryName(component))
+                .build());
+        }
 
         return componentJsTypeBuilder;
     }
@@ -174,11 +191,19 @@ public class ComponentJsTypeGenerator
 
         Component annotation = component.getAnnotation(Component.class);
 
+        // Exported methods are always in the initial fragment, the options of async Components
+        // are only built in their split point
+        if (annotation.async())
+            optionsMethodBuilder.addAnnotation(JsIgnore.class);
+
         if (!"".equals(annotation.name()))
             optionsMethodBuilder.addStatement("options.setName($S)", annotation.name());
 
+        if (annotation.functional())
+            optionsMethodBuilder.addStatement("options.setFunctional(true)");
+
         optionsMethodBuilder.addStatement(
-            "options.setComponentJavaPrototype($T.getJavaConstructor($T.class).getPrototype())",
+            "options.setComponentJavaConstructor($T.getJavaConstructor($T.class))",
             VueGWT.class,
             component);
 
@@ -192,21 +217,57 @@ public class ComponentJsTypeGenerator
         return optionsMethodBuilder;
     }
 
+    /**
+     * Check that a functional {@link VueComponent} only uses what is available without an
+     * instance: props, prop validators and default values, methods and the render function.
+     * @param component Model of the {@link VueComponent} to check
+     * @param dependenciesBuilder Builder for our component dependencies
+     */
+    private void checkFunctionalComponent(ComponentModel component,
+        ComponentInjectedDependenciesBuilder dependenciesBuilder)
+    {
+        List<String> forbidden = new ArrayList<>();
+        if (!component.getDataFields().isEmpty())
+            forbidden.add("data fields");
+        if (!component.getMethodsWithAnnotation(Computed.class).isEmpty())
+            forbidden.add("@Computed");
+        if (!component.getMethodsWithAnnotation(Watch.class).isEmpty())
+            forbidden.add("@Watch");
+        if (component
+            .getHookMethods()
+            .stream()
+            .anyMatch(method -> !"render".equals(method.getSimpleName().toString())))
+        {
+            forbidden.add("hooks");
+        }
+        if (dependenciesBuilder.hasDependencies())
+            forbidden.add("injected dependencies");
+
+        if (forbidden.isEmpty())
+            return;
+
+        messager.printMessage(Kind.ERROR,
+            "Functional VueComponent "
+                + component.getType().getQualifiedName().toString()
+                + " can't have "
+                + String.join(", ", forbidden)
+                + ". Functional Components don't have an instance, use @Prop instead.",
+            component.getType());
+    }
+
     /**
      * Process data fields from the {@link VueComponent} Class.
-     * @param component {@link VueComponent} to process
+     * @param component Model of the {@link VueComponent} to process
      * @param optionsBuilder A {@link MethodSpec.Builder} for the method that creates the
      * {@link VueComponentOptions}
      */
-    private void processData(TypeElement component, MethodSpec.Builder optionsBuilder)
+    private void processData(ComponentModel component, MethodSpec.Builder optionsBuilder)
     {
-        Component annotation = component.getAnnotation(Component.class);
+        Component annotation = component.getType().getAnnotation(Component.class);
 
-        List<String> fieldsName = ElementFilter
-            .fieldsIn(component.getEnclosedElements())
+        List<String> fieldsName = component
+            .getDataFields()
             .stream()
-            .filter(ComponentGenerationUtil::isFieldVisibleInJS)
-            .filter(field -> field.getAnnotation(Prop.class) == null)
             .map(field -> field.getSimpleName().toString())
             .collect(Collectors.toList());
 
@@ -226,16 +287,14 @@ public class ComponentJsTypeGenerator
 
     /**
      * Process Vue Props from the {@link VueComponent} Class.
-     * @param component {@link VueComponent} to process
+     * @param component Model of the {@link VueComponent} to process
      * @param optionsBuilder A {@link MethodSpec.Builder} for the method that creates the
      * {@link VueComponentOptions}
      */
-    private void processProps(TypeElement component, MethodSpec.Builder optionsBuilder)
+    private void processProps(ComponentModel component, MethodSpec.Builder optionsBuilder)
     {
-        ElementFilter
-            .fieldsIn(component.getEnclosedElements())
-            .stream()
-            .filter(field -> hasAnnotation(field, Prop.class))
+        component
+            .getPropFields()
             .forEach(field -> {
                 String fieldName = field.getSimpleName().toString();
                 Prop prop = field.getAnnotation(Prop.class);
@@ -246,7 +305,7 @@ public class ComponentJsTypeGenerator
                         "@Prop "
                             + fieldName
                             + " must also have @JsProperty annotation in VueComponent "
-                            + component.getQualifiedName().toString()
+                            + component.getType().getQualifiedName().toString()
                             + ".");
                 }
 
@@ -259,15 +318,15 @@ public class ComponentJsTypeGenerator
 
     /**
      * Process computed properties from the Component Class.
-     * @param component {@link VueComponent} to process
+     * @param component Model of the {@link VueComponent} to process
      * @param optionsBuilder A {@link MethodSpec.Builder} for the method that creates the
      * {@link VueComponentOptions}
      * @param componentJsTypeBuilder Builder for the JsType class
      */
-    private void processComputed(TypeElement component, MethodSpec.Builder optionsBuilder,
+    private void processComputed(ComponentModel component, MethodSpec.Builder optionsBuilder,
         Builder componentJsTypeBuilder)
     {
-        getMethodsWithAnnotation(component, Computed.class).forEach(method -> {
+        component.getMethodsWithAnnotation(Computed.class).forEach(method -> {
             String methodName = method.getSimpleName().toString();
 
             ComputedKind kind = ComputedKind.GETTER;
@@ -289,21 +348,30 @@ public class ComponentJsTypeGenerator
 
     /**
      * Process template methods for our {@link VueComponent} class.
-     * @param component {@link VueComponent} to process
+     * Vue binds each of its methods to each instance. Calls from the template already work on
+     * the instance, so only the methods used as values need to be bound. The template parser
+     * registers those it finds in the template, here we only add the ones annotated with
+     * {@link BoundMethod}.
+     * If the Component has no template, we can't know which methods are used, so they are all
+     * registered.
+     * @param component Model of the {@link VueComponent} to process
      * @param optionsBuilder A {@link MethodSpec.Builder} for the method that creates the
      * {@link VueComponentOptions}
-     * @param hookMethodsFromInterfaces Hook methods from the interface the {@link VueComponent}
-     * implements
      */
-    private void processTemplateMethods(TypeElement component, MethodSpec.Builder optionsBuilder,
-        Set<ExecutableElement> hookMethodsFromInterfaces)
+    private void processTemplateMethods(ComponentModel component,
+        MethodSpec.Builder optionsBuilder)
     {
-        List<ExecutableElement> templateMethods = ElementFilter
-            .methodsIn(component.getEnclosedElements())
-            .stream()
-            .filter(ComponentGenerationUtil::isMethodVisibleInTemplate)
-            .filter(method -> !isHookMethod(component, method, hookMethodsFromInterfaces))
-            .collect(Collectors.toList());
+        List<ExecutableElement> templateMethods = component.getTemplateMethods();
+        if (hasTemplate(processingEnv, component.getType()))
+        {
+            templateMethods = templateMethods
+                .stream()
+                .filter(method -> hasAnnotation(method, BoundMethod.class))
+                .collect(Collectors.toList());
+        }
+
+        if (templateMethods.isEmpty())
+            return;
 
         // Declare methods in the component
         String methodNamesParameters = templateMethods
@@ -315,15 +383,15 @@ public class ComponentJsTypeGenerator
 
     /**
      * Add fields for computed methods so they are visible in the template
-     * @param component {@link VueComponent} to process
+     * @param component Model of the {@link VueComponent} to process
      * @param componentJsTypeBuilder Builder for the JsType class
      * @param alreadyDone Already processed computed properties (in case there is a getter and a
      * setter, avoid creating the field twice).
      */
-    private void addFieldsForComputedMethod(TypeElement component, Builder componentJsTypeBuilder,
-        Set<String> alreadyDone)
+    private void addFieldsForComputedMethod(ComponentModel component,
+        Builder componentJsTypeBuilder, Set<String> alreadyDone)
     {
-        getMethodsWithAnnotation(component, Computed.class).forEach(method -> {
+        component.getMethodsWithAnnotation(Computed.class).forEach(method -> {
             String propertyName = GenerationUtil.getComputedPropertyName(method);
 
             if (alreadyDone.contains(propertyName))
@@ -341,22 +409,23 @@ public class ComponentJsTypeGenerator
             alreadyDone.add(propertyName);
         });
 
-        getSuperComponentType(component).ifPresent(superComponent -> addFieldsForComputedMethod(
-            superComponent,
-            componentJsTypeBuilder,
-            alreadyDone));
+        component
+            .getSuperComponent()
+            .ifPresent(superComponent -> addFieldsForComputedMethod(superComponent,
+                componentJsTypeBuilder,
+                alreadyDone));
     }
 
     /**
      * Process watchers from the Component Class.
-     * @param component {@link VueComponent} to process
+     * @param component Model of the {@link VueComponent} to process
      * @param optionsBuilder A {@link MethodSpec.Builder} for the method that creates the
      * {@link VueComponentOptions}
      */
-    private void processWatchers(TypeElement component, MethodSpec.Builder optionsBuilder,
+    private void processWatchers(ComponentModel component, MethodSpec.Builder optionsBuilder,
         Builder componentJsTypeBuilder)
     {
-        getMethodsWithAnnotation(component, Watch.class).forEach(method -> {
+        component.getMethodsWithAnnotation(Watch.class).forEach(method -> {
             Watch watch = method.getAnnotation(Watch.class);
 
             optionsBuilder.addStatement("options.addJavaWatch($S, $S, $L)",
@@ -370,14 +439,14 @@ public class ComponentJsTypeGenerator
 
     /**
      * Process prop validators from the Component Class.
-     * @param component {@link VueComponent} to process
+     * @param component Model of the {@link VueComponent} to process
      * @param optionsBuilder A {@link MethodSpec.Builder} for the method that creates the
      * {@link VueComponentOptions}
      */
-    private void processPropValidators(TypeElement component, MethodSpec.Builder optionsBuilder,
-        Builder componentJsTypeBuilder)
+    private void processPropValidators(ComponentModel component,
+        MethodSpec.Builder optionsBuilder, Builder componentJsTypeBuilder)
     {
-        getMethodsWithAnnotation(component, PropValidator.class).forEach(method -> {
+        component.getMethodsWithAnnotation(PropValidator.class).forEach(method -> {
             PropValidator propValidator = method.getAnnotation(PropValidator.class);
 
             String propertyName = propValidator.propertyName();
@@ -391,14 +460,14 @@ public class ComponentJsTypeGenerator
 
     /**
      * Process prop default values from the Component Class.
-     * @param component {@link VueComponent} to process
+     * @param component Model of the {@link VueComponent} to process
      * @param optionsBuilder A {@link MethodSpec.Builder} for the method that creates the
      * {@link VueComponentOptions}
      */
-    private void processPropDefaultValues(TypeElement component, MethodSpec.Builder optionsBuilder,
-        Builder componentJsTypeBuilder)
+    private void processPropDefaultValues(ComponentModel component,
+        MethodSpec.Builder optionsBuilder, Builder componentJsTypeBuilder)
     {
-        getMethodsWithAnnotation(component, PropDefault.class).forEach(method -> {
+        component.getMethodsWithAnnotation(PropDefault.class).forEach(method -> {
             PropDefault propValidator = method.getAnnotation(PropDefault.class);
 
             String propertyName = propValidator.propertyName();
@@ -412,53 +481,18 @@ public class ComponentJsTypeGenerator
 
     /**
      * Process hook methods from the Component Class.
-     * @param component {@link VueComponent} to process
+     * @param component Model of the {@link VueComponent} to process
      * @param optionsBuilder A {@link MethodSpec.Builder} for the method that creates the
      * {@link VueComponentOptions}
-     * @param hookMethodsFromInterfaces Hook methods from the interface the {@link VueComponent}
-     * implements
      */
-    private void processHooks(TypeElement component, MethodSpec.Builder optionsBuilder,
-        Set<ExecutableElement> hookMethodsFromInterfaces)
+    private void processHooks(ComponentModel component, MethodSpec.Builder optionsBuilder)
     {
-        ElementFilter
-            .methodsIn(component.getEnclosedElements())
-            .stream()
-            .filter(method -> isHookMethod(component, method, hookMethodsFromInterfaces))
+        component
+            .getHookMethods()
             .forEach(method -> optionsBuilder.addStatement("options.addHookMethod($S)",
                 method.getSimpleName().toString()));
     }
 
-    /**
-     * Return all hook methods from the implemented interfaces
-     * @param component The Component
-     * @return Hook methods that must be overridden in the Component
-     */
-    private Set<ExecutableElement> getHookMethodsFromInterfaces(TypeElement component)
-    {
-        return component
-            .getInterfaces()
-            .stream()
-            .map(DeclaredType.class::cast)
-            .map(DeclaredType::asElement)
-            .map(TypeElement.class::cast)
-            .flatMap(typeElement -> ElementFilter
-                .methodsIn(typeElement.getEnclosedElements())
-                .stream())
-            .filter(method -> hasAnnotation(method, HookMethod.class))
-            .peek(this::validateHookMethod)
-            .collect(Collectors.toSet());
-    }
-
-    private void validateHookMethod(ExecutableElement hookMethod)
-    {
-        if (!isMethodVisibleInJS(hookMethod))
-            messager.printMessage(Kind.ERROR,
-                "Method "
-                    + hookMethod.getSimpleName()
-                    + " annotated with HookMethod should also have @JsMethod property.");
-    }
-
     /**
      * Process the render function from the Component Class if it has one.
      * @param component {@link VueComponent} to process
@@ -477,7 +511,7 @@ public class ComponentJsTypeGenerator
             .addModifiers(Modifier.PUBLIC)
             .returns(VNode.class)
             .addParameter(CreateElementFunction.class, "createElementFunction")
-            .addStatement("return super.render(new $T(createElementFunction))", VNodeBuilder.class)
+            .addStatement("return super.render(new $T(this, createElementFunction))", VNodeBuilder.class)
             .build());
 
         // Register the render method
@@ -489,17 +523,19 @@ public class ComponentJsTypeGenerator
      * created.
      * It will inject dependencies if any, and call the {@link ComponentJavaConstructor} on the
      * newly created instance.
-     * @param component {@link VueComponent} to process
+     * @param componentModel Model of the {@link VueComponent} to process
      * @param optionsBuilder A {@link MethodSpec.Builder} for the method that creates the
      * {@link VueComponentOptions}
      * @param componentJsTypeBuilder Builder for the JsType class
      * @param dependenciesBuilder Builder for our component dependencies, needed here to inject the
      * dependencies in the instance
      */
-    private void createCreatedHook(TypeElement component, MethodSpec.Builder optionsBuilder,
-        Builder componentJsTypeBuilder, ComponentInjectedDependenciesBuilder dependenciesBuilder)
+    private void createCreatedHook(ComponentModel componentModel,
+        MethodSpec.Builder optionsBuilder, Builder componentJsTypeBuilder,
+        ComponentInjectedDependenciesBuilder dependenciesBuilder)
     {
-        String hasRunCreatedFlagName = "vuegwt$hrc_" + getSuperComponentCount(component);
+        TypeElement component = componentModel.getType();
+        String hasRunCreatedFlagName = "vuegwt$hrc_" + componentModel.getSuperComponentCount();
         componentJsTypeBuilder.addField(boolean.class, hasRunCreatedFlagName, Modifier.PUBLIC);
 
         MethodSpec.Builder createdMethodBuilder =
@@ -647,40 +683,6 @@ public class ComponentJsTypeGenerator
             .collect(Collectors.joining(", "));
     }
 
-    /**
-     * Return true of the given method is a proxy method
-     * @param component {@link VueComponent} this method belongs to
-     * @param method The java method to check
-     * @param hookMethodsFromInterfaces All the hook methods in the implement interfaces
-     * @return True if this method is a hook method, false otherwise
-     */
-    private boolean isHookMethod(TypeElement component, ExecutableElement method,
-        Set<ExecutableElement> hookMethodsFromInterfaces)
-    {
-        if (hasAnnotation(method, HookMethod.class))
-        {
-            validateHookMethod(method);
-            return true;
-        }
-
-        for (ExecutableElement hookMethodsFromInterface : hookMethodsFromInterfaces)
-        {
-            if (elements.overrides(method, hookMethodsFromInterface, component))
-                return true;
-        }
-
-        return false;
-    }
-
-    private Stream<ExecutableElement> getMethodsWithAnnotation(TypeElement component,
-        Class<? extends Annotation> annotation)
-    {
-        return ElementFilter
-            .methodsIn(component.getEnclosedElements())
-            .stream()
-            .filter(method -> hasAnnotation(method, annotation));
-    }
-
     /**
      * Transform a Java type name into a JavaScript type name.
      * Takes care of primitive types.
@@ -0,0 +1,251 @@
+package com.axellience.vuegwt.jsr69.component;
+
+import com.axellience.vuegwt.client.component.VueComponent;
+import com.axellience.vuegwt.jsr69.component.annotations.HookMethod;
+import com.axellience.vuegwt.jsr69.component.annotations.Prop;
+import com.axellience.vuegwt.jsr69.observer.annotations.NonReactive;
+
+import javax.annotation.processing.Messager;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic.Kind;
+import java.lang.annotation.Annotation;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.axellience.vuegwt.jsr69.GenerationUtil.hasAnnotation;
+import static com.axellience.vuegwt.jsr69.component.ComponentGenerationUtil.getSuperComponentType;
+import static com.axellience.vuegwt.jsr69.component.ComponentGenerationUtil.isMethodVisibleInJS;
+
+/**
+ * Model of a {@link VueComponent} class shared by all our generators during a processing round.
+ * The enclosed elements of the Component are only scanned once, and each classification (data
+ * fields, props, annotated methods, hooks...) is computed the first time it is asked for.
+ * Models are retrieved using a {@link ComponentModelRegistry}, this way super Components are
+ * also only scanned once.
+ */
+public class ComponentModel
+{
+    private final TypeElement type;
+    private final ComponentModelRegistry registry;
+    private final Elements elements;
+    private final Messager messager;
+
+    private final List<VariableElement> fields;
+    private final List<ExecutableElement> methods;
+    private final Map<Class<? extends Annotation>, List<ExecutableElement>> methodsByAnnotation =
+        new HashMap<>();
+
+    private List<VariableElement> dataFields;
+    private List<VariableElement> propFields;
+    private Set<ExecutableElement> hookMethodsFromInterfaces;
+    private List<ExecutableElement> hookMethods;
+    private List<ExecutableElement> templateMethods;
+    private Optional<ComponentModel> superComponent;
+    private Integer superComponentCount;
+
+    ComponentModel(TypeElement type, ComponentModelRegistry registry, Elements elements,
+        Messager messager)
+    {
+        this.type = type;
+        this.registry = registry;
+        this.elements = elements;
+        this.messager = messager;
+
+        this.fields = ElementFilter.fieldsIn(type.getEnclosedElements());
+        this.methods = ElementFilter.methodsIn(type.getEnclosedElements());
+    }
+
+    /**
+     * @return The {@link TypeElement} of the {@link VueComponent}
+     */
+    public TypeElement getType()
+    {
+        return type;
+    }
+
+    /**
+     * @return All the fields declared in the {@link VueComponent}
+     */
+    public List<VariableElement> getFields()
+    {
+        return fields;
+    }
+
+    /**
+     * @return All the methods declared in the {@link VueComponent}
+     */
+    public List<ExecutableElement> getMethods()
+    {
+        return methods;
+    }
+
+    /**
+     * Fields visible in JS that are not {@link Prop} nor {@link NonReactive}. They are the data of
+     * our Component.
+     * @return The data fields
+     */
+    public List<VariableElement> getDataFields()
+    {
+        if (dataFields == null)
+        {
+            dataFields = fields
+                .stream()
+                .filter(ComponentGenerationUtil::isFieldVisibleInJS)
+                .filter(field -> !hasAnnotation(field, Prop.class))
+                .filter(field -> !hasAnnotation(field, NonReactive.class))
+                .collect(Collectors.toList());
+        }
+        return dataFields;
+    }
+
+    /**
+     * @return The fields annotated with {@link Prop}
+     */
+    public List<VariableElement> getPropFields()
+    {
+        if (propFields == null)
+        {
+            propFields = fields
+                .stream()
+                .filter(field -> hasAnnotation(field, Prop.class))
+                .collect(Collectors.toList());
+        }
+        return propFields;
+    }
+
+    /**
+     * Return the methods declared in the {@link VueComponent} with the given annotation.
+     * @param annotation The annotation to look for
+     * @return The annotated methods
+     */
+    public List<ExecutableElement> getMethodsWithAnnotation(Class<? extends Annotation> annotation)
+    {
+        return methodsByAnnotation.computeIfAbsent(annotation,
+            key -> methods
+                .stream()
+                .filter(method -> hasAnnotation(method, key))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * @return Methods of the {@link VueComponent} that are lifecycle hooks
+     */
+    public List<ExecutableElement> getHookMethods()
+    {
+        if (hookMethods == null)
+            classifyHookAndTemplateMethods();
+
+        return hookMethods;
+    }
+
+    /**
+     * @return Methods of the {@link VueComponent} that are usable in the template
+     */
+    public List<ExecutableElement> getTemplateMethods()
+    {
+        if (templateMethods == null)
+            classifyHookAndTemplateMethods();
+
+        return templateMethods;
+    }
+
+    /**
+     * @return The model of the parent {@link VueComponent}, empty if the parent is {@link
+     * VueComponent}
+     */
+    public Optional<ComponentModel> getSuperComponent()
+    {
+        if (superComponent == null)
+            superComponent = getSuperComponentType(type).map(registry::get);
+
+        return superComponent;
+    }
+
+    /**
+     * @return The number of super components in the chain of parents
+     */
+    public int getSuperComponentCount()
+    {
+        if (superComponentCount == null)
+        {
+            superComponentCount = getSuperComponent()
+                .map(superComponentModel -> superComponentModel.getSuperComponentCount() + 1)
+                .orElse(0);
+        }
+        return superComponentCount;
+    }
+
+    private void classifyHookAndTemplateMethods()
+    {
+        hookMethods = methods.stream().filter(this::isHookMethod).collect(Collectors.toList());
+        templateMethods = methods
+            .stream()
+            .filter(ComponentGenerationUtil::isMethodVisibleInTemplate)
+            .filter(method -> !hookMethods.contains(method))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Return true of the given method is a hook method
+     * @param method The java method to check
+     * @return True if this method is a hook method, false otherwise
+     */
+    private boolean isHookMethod(ExecutableElement method)
+    {
+        if (hasAnnotation(method, HookMethod.class))
+        {
+            validateHookMethod(method);
+            return true;
+        }
+
+        for (ExecutableElement hookMethodsFromInterface : getHookMethodsFromInterfaces())
+        {
+            if (elements.overrides(method, hookMethodsFromInterface, type))
+                return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Return all hook methods from the implemented interfaces
+     * @return Hook methods that must be overridden in the Component
+     */
+    private Set<ExecutableElement> getHookMethodsFromInterfaces()
+    {
+        if (hookMethodsFromInterfaces == null)
+        {
+            hookMethodsFromInterfaces = type
+                .getInterfaces()
+                .stream()
+                .map(DeclaredType.class::cast)
+                .map(DeclaredType::asElement)
+                .map(TypeElement.class::cast)
+                .flatMap(typeElement -> ElementFilter
+                    .methodsIn(typeElement.getEnclosedElements())
+                    .stream())
+                .filter(method -> hasAnnotation(method, HookMethod.class))
+                .peek(this::validateHookMethod)
+                .collect(Collectors.toSet());
+        }
+        return hookMethodsFromInterfaces;
+    }
+
+    private void validateHookMethod(ExecutableElement hookMethod)
+    {
+        if (!isMethodVisibleInJS(hookMethod))
+            messager.printMessage(Kind.ERROR,
+                "Method "
+                    + hookMethod.getSimpleName()
+                    + " annotated with HookMethod should also have @JsMethod property.");
+    }
+}
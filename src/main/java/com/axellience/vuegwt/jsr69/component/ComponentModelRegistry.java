@@ -0,0 +1,37 @@
+package com.axellience.vuegwt.jsr69.component;
+
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Hold the {@link ComponentModel} of the Components seen during a processing round.
+ * A new registry should be created for each round, as elements from a previous round must not
+ * be reused.
+ */
+public class ComponentModelRegistry
+{
+    private final Elements elements;
+    private final Messager messager;
+    private final Map<String, ComponentModel> models = new HashMap<>();
+
+    public ComponentModelRegistry(ProcessingEnvironment processingEnvironment)
+    {
+        this.elements = processingEnvironment.getElementUtils();
+        this.messager = processingEnvironment.getMessager();
+    }
+
+    /**
+     * Return the {@link ComponentModel} for the given Component, creating it if needed.
+     * @param component The Component to get the model of
+     * @return The model of the Component
+     */
+    public ComponentModel get(TypeElement component)
+    {
+        return models.computeIfAbsent(component.getQualifiedName().toString(),
+            name -> new ComponentModel(component, this, elements, messager));
+    }
+}
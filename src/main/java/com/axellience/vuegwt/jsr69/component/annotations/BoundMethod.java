@@ -0,0 +1,17 @@
+package com.axellience.vuegwt.jsr69.component.annotations;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.SOURCE;
+
+/**
+ * Register a method in the Vue methods of the Component, so it is bound to each instance.
+ * Methods referenced by name in the template (for example as event handlers) are registered
+ * automatically. Use this for methods passed as callback from elsewhere, like in JS code.
+ */
+@Target(METHOD)
+@Retention(SOURCE)
+public @interface BoundMethod
+{}
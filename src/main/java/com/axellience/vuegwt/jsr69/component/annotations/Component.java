@@ -53,4 +53,25 @@ public @interface Component
      * @return true if has a html template, false otherwise
      */
     boolean hasTemplate() default true;
+
+    /**
+     * A flag to load the component asynchronously.
+     * When set, Components registering this one as a local component will wrap it in a GWT
+     * split point. Its factory, options and template are then only downloaded and initialized
+     * the first time it is rendered. Its Java class is still part of the initial download: the
+     * generated JsType is exported to JavaScript, and GWT keeps exported types in the initial
+     * fragment.
+     * Async components are created without injection, they can't have injected dependencies.
+     * @return true if the component should be loaded asynchronously, false otherwise
+     */
+    boolean async() default false;
+
+    /**
+     * A flag to make the component functional.
+     * Functional components don't create any instance: they can't have data, computed properties,
+     * watchers, hooks or injected dependencies. Their template (or render function) only uses
+     * their props, so rendering them costs about as much as rendering a plain element.
+     * @return true if the component is functional, false otherwise
+     */
+    boolean functional() default false;
 }
\ No newline at end of file
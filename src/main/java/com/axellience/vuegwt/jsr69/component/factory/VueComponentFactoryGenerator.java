@@ -1,6 +1,7 @@
 package com.axellience.vuegwt.jsr69.component.factory;
 
 import com.axellience.vuegwt.client.Vue;
+import com.axellience.vuegwt.client.VueGWT;
 import com.axellience.vuegwt.client.component.VueComponent;
 import com.axellience.vuegwt.client.component.options.CustomizeOptions;
 import com.axellience.vuegwt.client.component.options.VueComponentOptions;
@@ -9,12 +10,18 @@ import com.axellience.vuegwt.client.jsnative.jstypes.JsObject;
 import com.axellience.vuegwt.client.vue.VueFactory;
 import com.axellience.vuegwt.client.vue.VueJsAsyncProvider;
 import com.axellience.vuegwt.client.vue.VueJsConstructor;
-import com.axellience.vuegwt.jsr69.GenerationNameUtil;
+import com.axellience.vuegwt.jsr69.component.ComponentGenerationUtil;
+import com.axellience.vuegwt.jsr69.component.ComponentModel;
+import com.axellience.vuegwt.jsr69.component.ComponentModelRegistry;
 import com.axellience.vuegwt.jsr69.component.annotations.Component;
+import com.axellience.vuegwt.jsr69.component.annotations.JsComponent;
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.RunAsyncCallback;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeSpec;
 import com.squareup.javapoet.TypeSpec.Builder;
 
 import javax.annotation.processing.ProcessingEnvironment;
@@ -26,9 +33,12 @@ import javax.lang.model.type.MirroredTypesException;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
+import javax.tools.Diagnostic.Kind;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import static com.axellience.vuegwt.client.tools.VueGWTTools.componentToTagName;
@@ -36,7 +46,6 @@ import static com.axellience.vuegwt.client.tools.VueGWTTools.directiveToTagName;
 import static com.axellience.vuegwt.jsr69.GenerationNameUtil.*;
 import static com.axellience.vuegwt.jsr69.component.ComponentGenerationUtil.getComponentCustomizeOptions;
 import static com.axellience.vuegwt.jsr69.component.ComponentGenerationUtil.getComponentLocalComponents;
-import static com.axellience.vuegwt.jsr69.component.ComponentGenerationUtil.getSuperComponentType;
 
 /**
  * Generate {@link VueFactory} from the user {@link VueComponent} classes annotated by {@link
@@ -47,13 +56,16 @@ public class VueComponentFactoryGenerator extends AbstractVueComponentFactoryGen
 {
     private final Elements elements;
     private final Types types;
+    private final ComponentModelRegistry componentModels;
 
-    public VueComponentFactoryGenerator(ProcessingEnvironment processingEnv)
+    public VueComponentFactoryGenerator(ProcessingEnvironment processingEnv,
+        ComponentModelRegistry componentModels)
     {
         super(processingEnv);
 
         elements = processingEnv.getElementUtils();
         types = processingEnv.getTypeUtils();
+        this.componentModels = componentModels;
     }
 
     @Override
@@ -75,8 +87,10 @@ public class VueComponentFactoryGenerator extends AbstractVueComponentFactoryGen
         processCustomizeOptions(component, initBuilder, initParametersCall);
 
         // Extend the parent Component
-        Optional<ClassName> superFactoryType =
-            getSuperComponentType(component).map(GenerationNameUtil::componentFactoryName);
+        Optional<ClassName> superFactoryType = componentModels
+            .get(component)
+            .getSuperComponent()
+            .map(superComponent -> componentFactoryName(superComponent.getType()));
 
         if (superFactoryType.isPresent())
         {
@@ -98,6 +112,16 @@ public class VueComponentFactoryGenerator extends AbstractVueComponentFactoryGen
         registerLocalComponents(component, initBuilder, initParametersCall);
         registerLocalDirectives(componentAnnotation, initBuilder);
 
+        // Async Components are registered once their split point is loaded, their JsType doesn't
+        // reference their VueFactory
+        if (componentAnnotation.async())
+        {
+            checkAsyncComponent(component);
+            initBuilder.addStatement("$T.register($S, this)",
+                VueGWT.class,
+                component.getQualifiedName().toString());
+        }
+
         MethodSpec initMethod = initBuilder.build();
         vueFactoryClassBuilder.addMethod(initMethod);
 
@@ -151,15 +175,23 @@ public class VueComponentFactoryGenerator extends AbstractVueComponentFactoryGen
 
         localComponents.forEach(localComponent -> {
             ClassName factory = componentFactoryName(localComponent);
+            TypeElement localComponentElement =
+                (TypeElement) ((DeclaredType) localComponent).asElement();
+            String tagName = componentToTagName(localComponentElement.getSimpleName().toString());
+
+            // Async factories must only be referenced in their split point, they are not injected
+            if (isAsyncComponent(localComponentElement))
+            {
+                injectDependenciesBuilder.addStatement("components.set($S, render -> $L)",
+                    tagName,
+                    createAsyncLocalComponentLoader(localComponentElement, factory));
+                return;
+            }
 
             String parameterName = factory.reflectionName().replaceAll("\\.", "_");
             injectDependenciesBuilder.addParameter(providerOf(factory), parameterName);
             staticInitParameters.add(CodeBlock.of("() -> $T.get()", factory));
 
-            String tagName = componentToTagName(((DeclaredType) localComponent)
-                .asElement()
-                .getSimpleName()
-                .toString());
             injectDependenciesBuilder.addStatement(
                 "components.set($S, render -> render.accept($L.get().getJsConstructor()))",
                 tagName,
@@ -167,6 +199,117 @@ public class VueComponentFactoryGenerator extends AbstractVueComponentFactoryGen
         });
     }
 
+    /**
+     * Check if a local component should be loaded asynchronously.
+     * Only {@link Component} can be async, {@link JsComponent} are always resolved directly.
+     * @param localComponent The local component to check
+     * @return true if the component is async, false otherwise
+     */
+    private boolean isAsyncComponent(TypeElement localComponent)
+    {
+        Component annotation = localComponent.getAnnotation(Component.class);
+        return annotation != null && annotation.async();
+    }
+
+    /**
+     * Check that an async {@link Component} doesn't need injection.
+     * Its {@link VueFactory} is created in its split point with the static get() accessor, which
+     * doesn't support injection. So are the factories of its parent and of its local components.
+     * An injected {@link javax.inject.Provider} can't be used instead: its get() method would be
+     * reachable from the initial fragment, and so would be the whole Component.
+     * @param component The async Component to check
+     */
+    private void checkAsyncComponent(TypeElement component)
+    {
+        findInjectedComponent(component, new HashSet<>()).ifPresent(injectedComponent -> {
+            String injectedComponentName = injectedComponent == component ? "It" :
+                "Its dependency " + injectedComponent.getQualifiedName();
+
+            messager.printMessage(Kind.ERROR,
+                "Async Component "
+                    + component.getQualifiedName()
+                    + " can't use injection, it is created in its GWT split point without an"
+                    + " injector. "
+                    + injectedComponentName
+                    + " has @Inject dependencies.",
+                component);
+        });
+    }
+
+    /**
+     * Find a {@link Component} with injected dependencies among the given one, its parents and
+     * its local components.
+     * Async local components are not followed, they are checked on their own.
+     * @param component The Component to start from
+     * @param visitedComponents The Components already checked
+     * @return The first Component found with injected dependencies, empty if there is none
+     */
+    private Optional<TypeElement> findInjectedComponent(TypeElement component,
+        Set<TypeElement> visitedComponents)
+    {
+        if (!visitedComponents.add(component))
+            return Optional.empty();
+
+        ComponentModel componentModel = componentModels.get(component);
+        boolean hasInjectedDependencies = Stream
+            .concat(componentModel.getFields().stream(), componentModel.getMethods().stream())
+            .anyMatch(ComponentGenerationUtil::hasInjectAnnotation);
+        if (hasInjectedDependencies)
+            return Optional.of(component);
+
+        Optional<TypeElement> injectedSuperComponent = componentModel
+            .getSuperComponent()
+            .flatMap(superComponent -> findInjectedComponent(superComponent.getType(),
+                visitedComponents));
+        if (injectedSuperComponent.isPresent())
+            return injectedSuperComponent;
+
+        return getComponentLocalComponents(elements, component)
+            .stream()
+            .map(localComponent -> (TypeElement) ((DeclaredType) localComponent).asElement())
+            .filter(localComponent -> localComponent.getAnnotation(Component.class) != null)
+            .filter(localComponent -> !isAsyncComponent(localComponent))
+            .map(localComponent -> findInjectedComponent(localComponent, visitedComponents))
+            .filter(Optional::isPresent)
+            .map(Optional::get)
+            .findFirst();
+    }
+
+    /**
+     * Create the code that loads an async local component.
+     * The factory is only referenced in a GWT split point named after the factory class, using
+     * its static get() accessor. This way the factory, the options and the template of the
+     * component are only downloaded and initialized when the component is first rendered.
+     * @param localComponent The local component to load
+     * @param factory The name of the {@link VueFactory} of the local component
+     * @return A {@link CodeBlock} calling GWT.runAsync and resolving the {@link VueJsConstructor}
+     */
+    private CodeBlock createAsyncLocalComponentLoader(TypeElement localComponent,
+        ClassName factory)
+    {
+        TypeSpec runAsyncCallback = TypeSpec
+            .anonymousClassBuilder("")
+            .addSuperinterface(RunAsyncCallback.class)
+            .addMethod(MethodSpec
+                .methodBuilder("onFailure")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(Throwable.class, "reason")
+                .addStatement("throw new $T($S, reason)",
+                    RuntimeException.class,
+                    "Couldn't load async Component: " + localComponent.getQualifiedName())
+                .build())
+            .addMethod(MethodSpec
+                .methodBuilder("onSuccess")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .addStatement("render.accept($T.get().getJsConstructor())", factory)
+                .build())
+            .build();
+
+        return CodeBlock.of("$T.runAsync($T.class, $L)", GWT.class, factory, runAsyncCallback);
+    }
+
     /**
      * Register directives passed to the annotation.
      * @param annotation The Component annotation on the Component we generate for
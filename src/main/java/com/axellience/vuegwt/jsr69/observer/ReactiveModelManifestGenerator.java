@@ -0,0 +1,154 @@
+package com.axellience.vuegwt.jsr69.observer;
+
+import com.axellience.vuegwt.client.observer.VueGWTObserverManager;
+import com.axellience.vuegwt.jsr69.GenerationUtil;
+import com.axellience.vuegwt.jsr69.component.ComponentGenerationUtil;
+import com.axellience.vuegwt.jsr69.observer.annotations.NonReactive;
+import com.axellience.vuegwt.jsr69.observer.annotations.ReactiveModel;
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.TypeSpec;
+import com.squareup.javapoet.TypeSpec.Builder;
+import jsinterop.annotations.JsMethod;
+
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import static com.axellience.vuegwt.jsr69.GenerationNameUtil.nonReactiveMarkerName;
+import static com.axellience.vuegwt.jsr69.GenerationNameUtil.reactiveModelManifestJsName;
+import static com.axellience.vuegwt.jsr69.GenerationNameUtil.reactiveModelManifestName;
+
+/**
+ * Generate the manifest of reactive fields for classes annotated with {@link ReactiveModel}.
+ * The manifest is a static method exported in JS under {@link
+ * VueGWTObserverManager#REACTIVE_MODELS_NAMESPACE}. It returns the names of all the fields of the
+ * class (and its parents) that Vue should observe.
+ * Classes annotated with {@link NonReactive} get a marker exported under {@link
+ * VueGWTObserverManager#NON_REACTIVE_MODELS_NAMESPACE} instead.
+ */
+public class ReactiveModelManifestGenerator
+{
+    private final Filer filer;
+    private final Messager messager;
+
+    public ReactiveModelManifestGenerator(ProcessingEnvironment processingEnvironment)
+    {
+        filer = processingEnvironment.getFiler();
+        messager = processingEnvironment.getMessager();
+    }
+
+    public void generate(TypeElement model)
+    {
+        ClassName manifestName = reactiveModelManifestName(model);
+        Builder manifestBuilder = TypeSpec
+            .classBuilder(manifestName)
+            .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+            .addJavadoc("Reactive fields of {@link $T}, generated at compile time.\n",
+                ClassName.get(model));
+
+        Set<String> fieldNames = getReactiveFieldNames(model);
+        String fieldNamesFormat = String.join(", ", Collections.nCopies(fieldNames.size(), "$S"));
+
+        manifestBuilder.addMethod(MethodSpec
+            .methodBuilder("getFieldNames")
+            .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+            .addAnnotation(AnnotationSpec
+                .builder(JsMethod.class)
+                .addMember("namespace", "$S", VueGWTObserverManager.REACTIVE_MODELS_NAMESPACE)
+                .addMember("name", "$S", reactiveModelManifestJsName(model))
+                .build())
+            .returns(String[].class)
+            .addStatement("return new String[] {" + fieldNamesFormat + "}",
+                fieldNames.toArray())
+            .build());
+
+        GenerationUtil.toJavaFile(filer, manifestBuilder, manifestName, model);
+    }
+
+    public void generateNonReactiveMarker(TypeElement model)
+    {
+        ClassName markerName = nonReactiveMarkerName(model);
+        Builder markerBuilder = TypeSpec
+            .classBuilder(markerName)
+            .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+            .addJavadoc("Mark {@link $T} as never observed by Vue, generated at compile time.\n",
+                ClassName.get(model));
+
+        markerBuilder.addMethod(MethodSpec
+            .methodBuilder("isNonReactive")
+            .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+            .addAnnotation(AnnotationSpec
+                .builder(JsMethod.class)
+                .addMember("namespace", "$S", VueGWTObserverManager.NON_REACTIVE_MODELS_NAMESPACE)
+                .addMember("name", "$S", reactiveModelManifestJsName(model))
+                .build())
+            .returns(boolean.class)
+            .addStatement("return true")
+            .build());
+
+        GenerationUtil.toJavaFile(filer, markerBuilder, markerName, model);
+    }
+
+    /**
+     * Get the name of the instance fields of the model and its parents.
+     * Fields not visible in JS can't be listed as their name will change in the GWT output.
+     * @param model The {@link ReactiveModel} class
+     * @return The name of the fields to observe
+     */
+    private Set<String> getReactiveFieldNames(TypeElement model)
+    {
+        Set<String> fieldNames = new LinkedHashSet<>();
+        TypeElement currentType = model;
+        while (currentType != null && !Object.class
+            .getCanonicalName()
+            .equals(currentType.getQualifiedName().toString()))
+        {
+            for (VariableElement field : ElementFilter.fieldsIn(currentType.getEnclosedElements()))
+            {
+                if (field.getModifiers().contains(Modifier.STATIC))
+                    continue;
+
+                if (ComponentGenerationUtil.isFieldVisibleInJS(field))
+                {
+                    fieldNames.add(field.getSimpleName().toString());
+                    continue;
+                }
+
+                messager.printMessage(Kind.WARNING,
+                    "Field "
+                        + field.getSimpleName()
+                        + " in "
+                        + currentType.getQualifiedName()
+                        + " is not visible in JS and won't be part of the reactive fields of "
+                        + model.getQualifiedName()
+                        + ". Add @JsProperty to it, or make it public in a @JsType class.",
+                    field);
+            }
+
+            currentType = getSuperType(currentType);
+        }
+        return fieldNames;
+    }
+
+    private TypeElement getSuperType(TypeElement type)
+    {
+        TypeMirror superType = type.getSuperclass();
+        if (superType.getKind() != TypeKind.DECLARED)
+            return null;
+
+        return (TypeElement) ((DeclaredType) superType).asElement();
+    }
+}
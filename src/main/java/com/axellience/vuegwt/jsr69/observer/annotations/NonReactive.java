@@ -0,0 +1,25 @@
+package com.axellience.vuegwt.jsr69.observer.annotations;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.SOURCE;
+
+/**
+ * Opt out of Vue observation.
+ * <br>
+ * On a class, instances of the class (and of its child classes) are never observed by Vue. They
+ * stay plain Java objects, and changes made to them won't update the views.
+ * <br>
+ * On a field of a Component, the field is not part of the Component data. It can still be used in
+ * the template, but the value it holds is not observed and assigning it won't update the view.
+ * <br>
+ * This is useful for large graphs of immutable objects, where observation would only be overhead.
+ * To opt out a single instance, use VueGWT.freeze() instead.
+ */
+@Target({ TYPE, FIELD })
+@Retention(SOURCE)
+public @interface NonReactive
+{}
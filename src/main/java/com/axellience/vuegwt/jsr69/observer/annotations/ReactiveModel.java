@@ -0,0 +1,18 @@
+package com.axellience.vuegwt.jsr69.observer.annotations;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.SOURCE;
+
+/**
+ * Annotation placed on Java classes used in the data of Vue Components.
+ * The list of reactive fields of the class is generated at compile time, so Vue GWT doesn't have
+ * to look for them on the prototype when an instance gets observed.
+ * Only fields visible in JS (public in a JsType class or annotated with JsProperty) can be listed.
+ */
+@Target(TYPE)
+@Retention(SOURCE)
+public @interface ReactiveModel
+{}
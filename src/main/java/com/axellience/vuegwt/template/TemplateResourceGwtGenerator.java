@@ -246,6 +246,7 @@ public final class TemplateResourceGwtGenerator extends AbstractResourceGenerato
         }
 
         generateGetTemplateMethods(sw, templateParserResult);
+        generateGetTemplateMethodReferences(sw, templateParserResult);
     }
 
     /**
@@ -303,6 +304,27 @@ public final class TemplateResourceGwtGenerator extends AbstractResourceGenerato
         sw.println("}");
     }
 
+    /**
+     * Generate the method to get the list of Component methods used as values in the template
+     * @param sw The source writer
+     * @param templateParserResult Result from the parsing of the HTML Template
+     */
+    private void generateGetTemplateMethodReferences(SourceWriter sw,
+        TemplateParserResult templateParserResult)
+    {
+        String methodNames = templateParserResult
+            .getMethodReferences()
+            .stream()
+            .map(methodName -> "\"" + methodName + "\"")
+            .collect(Collectors.joining(", "));
+
+        sw.println("public String[] getTemplateMethodReferences() {");
+        sw.indent();
+        sw.println("return new String[] { " + methodNames + " };");
+        sw.outdent();
+        sw.println("}");
+    }
+
     private String getExpressionsIds(TemplateParserResult templateParserResult)
     {
         return templateParserResult
@@ -26,8 +26,10 @@ import org.jsoup.parser.ParseSettings;
 import org.jsoup.parser.Parser;
 
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -45,9 +47,14 @@ public class TemplateParser
 {
     private static Pattern VUE_ATTR_PATTERN = Pattern.compile("^(v-|:|@).*");
     private static Pattern VUE_MUSTACHE_PATTERN = Pattern.compile("\\{\\{.*?}}");
+    private static Pattern DELEGATED_EVENT_PATTERN =
+        Pattern.compile("^(@|v-on:)[a-z0-9-]+\\.delegate$");
+    private static Pattern DELEGATE_MODIFIER_PATTERN =
+        Pattern.compile("^(@|v-on:)[^.]+(\\.[^.]+)*\\.delegate(\\.[^.]+)*$");
 
     private TemplateParserContext context;
     private TemplateParserResult result;
+    private Map<Element, Integer> delegatedEventContainerIds;
 
     private String currentExpressionReturnType;
 
@@ -72,6 +79,7 @@ public class TemplateParser
         Document doc = parser.parseInput(htmlTemplate, "");
 
         context = new TemplateParserContext(templateResourceClass);
+        delegatedEventContainerIds = new IdentityHashMap<>();
         processImports(doc);
         processNode(doc);
 
@@ -188,6 +196,8 @@ public class TemplateParser
      */
     private void processElementNode(Element element)
     {
+        List<Attribute> delegatedEvents = new LinkedList<>();
+
         // Iterate on element attributes
         for (Attribute attribute : element.attributes())
         {
@@ -199,9 +209,176 @@ public class TemplateParser
             if (!VUE_ATTR_PATTERN.matcher(attributeName).matches())
                 continue;
 
+            if (DELEGATED_EVENT_PATTERN.matcher(attributeName).matches())
+            {
+                delegatedEvents.add(attribute);
+                continue;
+            }
+
+            if (DELEGATE_MODIFIER_PATTERN.matcher(attributeName).matches())
+            {
+                throw new TemplateExpressionException(
+                    "The .delegate modifier can't be combined with other modifiers in \""
+                        + attribute.getKey()
+                        + "\", use $event in the handler instead (for example "
+                        + "((NativeEvent) $event).stopPropagation()).",
+                    attribute.getValue(),
+                    context);
+            }
+
             currentExpressionReturnType = getExpressionReturnTypeForAttribute(attribute);
             attribute.setValue(processExpression(attribute.getValue()));
         }
+
+        delegatedEvents.forEach(attribute -> processDelegatedEvent(element, attribute));
+    }
+
+    /**
+     * Process an event listener with the .delegate modifier, inside a v-for.
+     * Instead of adding a listener on each element of the v-for, the element only keeps the
+     * method to call and its parameters in a DOM property. A single listener on the container of
+     * the v-for finds the elements the event went through and calls their method.
+     * <br>
+     * Each container gets its own DOM property name, so with nested v-for the listener of a
+     * container only calls the methods of its own elements.
+     * @param element The element with the listener
+     * @param attribute The attribute of the listener
+     */
+    private void processDelegatedEvent(Element element, Attribute attribute)
+    {
+        String attributeName = attribute.getKey();
+        String eventName = attributeName.substring(attributeName.startsWith("@") ? 1 : 5,
+            attributeName.length() - ".delegate".length());
+
+        Element container = findDelegatedEventContainer(element, attribute);
+        String containerEventName = eventName + "-" + getDelegatedEventContainerId(container);
+        String delegatedEventHandler =
+            "vuegwt$delegate('" + getDelegatedEventPropertyName(containerEventName) + "', $event)";
+        String containerAttributeName = "@" + eventName;
+        String containerHandler = container.hasAttr(containerAttributeName) ?
+            container.attr(containerAttributeName) : container.attr("v-on:" + eventName);
+        if (containerHandler.isEmpty())
+        {
+            container.attr(containerAttributeName, delegatedEventHandler);
+        }
+        else if (!containerHandler.equals(delegatedEventHandler))
+        {
+            throw new TemplateExpressionException("The container of the v-for already listens to \""
+                + eventName
+                + "\", the .delegate modifier can't be used for this event.",
+                attribute.getValue(),
+                context);
+        }
+
+        element.removeAttr(attributeName);
+        element.attr(":vuegwt-on-" + containerEventName + ".prop",
+            getDelegatedEventHandler(attribute.getValue()));
+    }
+
+    /**
+     * The delegated listener is added on the parent of the closest v-for.
+     * @param element The element with the delegated listener
+     * @param attribute The attribute of the listener
+     * @return The container of the v-for
+     */
+    private Element findDelegatedEventContainer(Element element, Attribute attribute)
+    {
+        Element vForElement = element;
+        while (vForElement != null && !vForElement.hasAttr("v-for"))
+            vForElement = vForElement.parent();
+
+        if (vForElement == null)
+        {
+            throw new TemplateExpressionException(
+                "The .delegate modifier can only be used inside a v-for.",
+                attribute.getValue(),
+                context);
+        }
+
+        Element container = vForElement.parent();
+        if (container == null || "body".equals(container.tagName()) || "template".equals(
+            container.tagName()))
+        {
+            throw new TemplateExpressionException(
+                "The .delegate modifier requires the v-for to be in an element, to listen to events on it.",
+                attribute.getValue(),
+                context);
+        }
+
+        return container;
+    }
+
+    /**
+     * @param container The container of a v-for with delegated listeners
+     * @return The id of the container in this template
+     */
+    private int getDelegatedEventContainerId(Element container)
+    {
+        Integer containerId = delegatedEventContainerIds.get(container);
+        if (containerId == null)
+        {
+            containerId = delegatedEventContainerIds.size();
+            delegatedEventContainerIds.put(container, containerId);
+        }
+
+        return containerId;
+    }
+
+    /**
+     * Return the array describing the delegated handler of an element: the name of the method to
+     * call, the position of the $event parameter (-1 if there is none), and the values of the
+     * other parameters.
+     * @param handlerExpression The expression of the listener
+     * @return A JS array, to store in the element
+     */
+    private String getDelegatedEventHandler(String handlerExpression)
+    {
+        String expressionString = handlerExpression.trim();
+
+        // A method name alone receives the event, like for regular listeners
+        if (context.hasMethod(expressionString))
+            return "['" + expressionString + "', 0]";
+
+        currentExpressionReturnType = "void";
+        TemplateExpression expression = processJavaExpression(expressionString);
+
+        int eventIndex = -1;
+        StringBuilder parameters = new StringBuilder();
+        List<VariableInfo> expressionParameters = expression.getParameters();
+        for (int i = 0; i < expressionParameters.size(); i++)
+        {
+            String parameterName = expressionParameters.get(i).getName();
+            if ("$event".equals(parameterName))
+                eventIndex = i;
+            else
+                parameters.append(", ").append(parameterName);
+        }
+
+        return "['" + expression.getId() + "', " + eventIndex + parameters + "]";
+    }
+
+    /**
+     * Vue camelizes the name of DOM properties bound with the .prop modifier.
+     * @param eventName The name of the delegated event, followed by the id of its container
+     * @return The name of the DOM property storing the handlers of this event for this container
+     */
+    private String getDelegatedEventPropertyName(String eventName)
+    {
+        StringBuilder propertyName = new StringBuilder("vuegwtOn");
+        boolean isNextUpperCase = true;
+        for (char c : eventName.toCharArray())
+        {
+            if (c == '-')
+            {
+                isNextUpperCase = true;
+                continue;
+            }
+
+            propertyName.append(isNextUpperCase ? Character.toUpperCase(c) : c);
+            isNextUpperCase = false;
+        }
+
+        return propertyName.toString();
     }
 
     /**
@@ -277,7 +454,13 @@ public class TemplateParser
         // Java values to String for us (Enums, wrapped primitives...)
         if (!"String".equals(currentExpressionReturnType) && isSimpleVueJsExpression(
             expressionString))
+        {
+            // A method used as a value will be called without the instance, it must be bound
+            if (context.hasMethod(expressionString))
+                result.addMethodReference(expressionString);
+
             return expressionString;
+        }
 
         return processJavaExpression(expressionString).toTemplateString();
     }
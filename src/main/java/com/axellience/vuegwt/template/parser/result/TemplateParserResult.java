@@ -3,9 +3,11 @@ package com.axellience.vuegwt.template.parser.result;
 import com.axellience.vuegwt.template.parser.variable.VariableInfo;
 
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static com.axellience.vuegwt.client.component.template.TemplateResource.EXPRESSION_PREFIX;
 
@@ -18,6 +20,7 @@ public class TemplateParserResult
     private String processedTemplate;
     private final List<TemplateExpression> expressions = new LinkedList<>();
     private final Map<String, String> styleImports = new HashMap<>();
+    private final Set<String> methodReferences = new LinkedHashSet<>();
 
     /**
      * Set the processed template, once all the Java expression has been replaced by
@@ -71,6 +74,25 @@ public class TemplateParserResult
         return expressions;
     }
 
+    /**
+     * Add a Component method used as a value in the template (for example as an event handler).
+     * These methods must be bound to the Component instance.
+     * @param methodName The name of the method
+     */
+    public void addMethodReference(String methodName)
+    {
+        this.methodReferences.add(methodName);
+    }
+
+    /**
+     * Return the Component methods used as values in the template.
+     * @return The names of the methods
+     */
+    public Set<String> getMethodReferences()
+    {
+        return methodReferences;
+    }
+
     /**
      * Add a style import we found in the template.
      * @param styleName The name of the style in the template
@@ -0,0 +1,225 @@
+(function (context) {
+	if (!context.VueGWT)
+		context.VueGWT = {};
+	if (!context.VueGWT.metrics)
+		context.VueGWT.metrics = {};
+
+	const metrics = context.VueGWT.metrics;
+
+	/**
+	 * Record how long Components take to init, render and patch.
+	 * Vue.js only measures this in its development build, this works with any build.
+	 * The methods of the Vue prototype are wrapped the first time metrics are enabled.
+	 */
+	const now = typeof performance !== "undefined" && performance.now ?
+		() => performance.now() : () => Date.now();
+	const hasUserTiming = typeof performance !== "undefined" && performance.mark && performance.measure;
+
+	let isInstalled = false;
+	let isEnabled = false;
+	let sampleRate = 1;
+	let useUserTiming = false;
+	let componentsMetrics = {};
+	let instancesMetrics = {};
+
+	metrics.enable = function (rate, userTiming) {
+		install();
+		isEnabled = true;
+		sampleRate = rate;
+		useUserTiming = userTiming && hasUserTiming;
+	};
+	metrics.disable = function () {
+		isEnabled = false;
+	};
+	metrics.isEnabled = function () {
+		return isEnabled;
+	};
+	metrics.reset = function () {
+		componentsMetrics = {};
+		// Sampled instances still alive keep being measured
+		for (let id in instancesMetrics)
+			resetInstanceMetrics(instancesMetrics[id]);
+	};
+	metrics.getComponentsMetrics = function () {
+		return Object.keys(componentsMetrics).map(name => componentsMetrics[name]);
+	};
+	metrics.getInstancesMetrics = function () {
+		return Object.keys(instancesMetrics).map(id => instancesMetrics[id]);
+	};
+	metrics.toJSON = function () {
+		return JSON.stringify({
+			sampleRate: sampleRate,
+			components: metrics.getComponentsMetrics(),
+			instances: metrics.getInstancesMetrics()
+		});
+	};
+
+	function install() {
+		if (isInstalled)
+			return;
+		isInstalled = true;
+
+		const vueProto = Vue.prototype;
+		const vueInit = vueProto._init;
+		const vueMount = vueProto.$mount;
+		const vueRender = vueProto._render;
+		const vueUpdate = vueProto._update;
+		const vueDestroy = vueProto.$destroy;
+
+		vueProto._init = function (options) {
+			if (!isEnabled || Math.random() >= sampleRate)
+				return vueInit.call(this, options);
+
+			this.vuegwt$initStart = begin();
+			try {
+				vueInit.call(this, options);
+				endInit(this);
+			} finally {
+				// Only set if init failed before being recorded
+				if (this.vuegwt$initStart) {
+					clearMark(this.vuegwt$initStart);
+					delete this.vuegwt$initStart;
+				}
+			}
+		};
+		// Root instances with an el are mounted in _init, like Vue.js we don't count it in init
+		vueProto.$mount = function () {
+			endInit(this);
+			return vueMount.apply(this, arguments);
+		};
+		vueProto._render = function () {
+			const instanceMetrics = this.vuegwt$metrics;
+			if (!instanceMetrics || !isEnabled)
+				return vueRender.call(this);
+
+			const start = begin();
+			try {
+				const vnode = vueRender.call(this);
+				record(instanceMetrics, "render", start);
+				return vnode;
+			} finally {
+				clearMark(start);
+			}
+		};
+		vueProto._update = function () {
+			const instanceMetrics = this.vuegwt$metrics;
+			if (!instanceMetrics || !isEnabled)
+				return vueUpdate.apply(this, arguments);
+
+			const start = begin();
+			try {
+				const result = vueUpdate.apply(this, arguments);
+				record(instanceMetrics, "patch", start);
+				return result;
+			} finally {
+				clearMark(start);
+			}
+		};
+		vueProto.$destroy = function () {
+			const instanceMetrics = this.vuegwt$metrics;
+			const result = vueDestroy.apply(this, arguments);
+			if (instanceMetrics) {
+				delete instancesMetrics[instanceMetrics.id];
+				this.vuegwt$metrics = null;
+			}
+			return result;
+		};
+	}
+
+	function endInit(vm) {
+		const start = vm.vuegwt$initStart;
+		if (start === undefined)
+			return;
+
+		delete vm.vuegwt$initStart;
+		const componentName = getComponentName(vm);
+		const instanceMetrics = createInstanceMetrics(vm._uid, componentName);
+		vm.vuegwt$metrics = instanceMetrics;
+		instancesMetrics[instanceMetrics.id] = instanceMetrics;
+		getComponentMetrics(componentName).instanceCount++;
+		record(instanceMetrics, "init", start);
+		clearMark(start);
+	}
+
+	let markCount = 0;
+
+	function begin() {
+		const start = {time: now(), mark: null};
+		if (useUserTiming) {
+			start.mark = "vue-gwt-start-" + markCount++;
+			performance.mark(start.mark);
+		}
+		return start;
+	}
+
+	function record(instanceMetrics, phase, start) {
+		const duration = now() - start.time;
+		const componentMetrics = getComponentMetrics(instanceMetrics.componentName);
+
+		instanceMetrics[phase + "Count"]++;
+		instanceMetrics[phase + "Time"] += duration;
+		componentMetrics[phase + "Count"]++;
+		componentMetrics[phase + "Time"] += duration;
+		if (duration > componentMetrics[phase + "MaxTime"])
+			componentMetrics[phase + "MaxTime"] = duration;
+
+		// User Timing can be disabled while measuring
+		if (start.mark) {
+			const name = "vue-gwt " + instanceMetrics.componentName + "#" + instanceMetrics.id + " " + phase;
+			performance.measure(name, start.mark);
+			// The dev tools and the PerformanceObservers already got the measure, removing it
+			// keeps the User Timing buffer from growing on long running pages
+			performance.clearMeasures(name);
+		}
+	}
+
+	function clearMark(start) {
+		if (start.mark) {
+			performance.clearMarks(start.mark);
+			start.mark = null;
+		}
+	}
+
+	function getComponentName(vm) {
+		const options = vm.$options;
+		if (options.name || options._componentTag)
+			return options.name || options._componentTag;
+
+		return vm.$root === vm ? "Root" : "Anonymous";
+	}
+
+	function getComponentMetrics(componentName) {
+		let componentMetrics = componentsMetrics[componentName];
+		if (!componentMetrics) {
+			componentMetrics = {
+				name: componentName,
+				instanceCount: 0,
+				initCount: 0,
+				initTime: 0,
+				initMaxTime: 0,
+				renderCount: 0,
+				renderTime: 0,
+				renderMaxTime: 0,
+				patchCount: 0,
+				patchTime: 0,
+				patchMaxTime: 0
+			};
+			componentsMetrics[componentName] = componentMetrics;
+		}
+		return componentMetrics;
+	}
+
+	function createInstanceMetrics(id, componentName) {
+		return resetInstanceMetrics({id: id, componentName: componentName});
+	}
+
+	function resetInstanceMetrics(instanceMetrics) {
+		instanceMetrics.initCount = 0;
+		instanceMetrics.initTime = 0;
+		instanceMetrics.renderCount = 0;
+		instanceMetrics.renderTime = 0;
+		instanceMetrics.patchCount = 0;
+		instanceMetrics.patchTime = 0;
+		return instanceMetrics;
+	}
+})(window);
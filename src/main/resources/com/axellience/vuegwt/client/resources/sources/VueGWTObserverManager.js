@@ -17,15 +17,112 @@
 		const obProto = Object.getPrototypeOf(ob);
 		const vueWalk = obProto.walk;
 		obProto.walk = function (obj) {
-			if (observerManager.observeJavaObject(obj)) {
-				return;
-			}
+			if (obj.vuegwt$nonReactive !== true && !observerManager.observeJavaObject(obj))
+				vueWalk(obj);
 
-			vueWalk(obj);
+			// Vue sets the observer before walking, we remove it from objects that must not be
+			// observed. Checked after observeJavaObject, as the first instance of a NonReactive
+			// class only gets its class marked there.
+			if (obj.vuegwt$nonReactive === true)
+				delete obj.__ob__;
 		};
 
 		observerManager.observeArray = obProto.observeArray;
 		observerManager.makeReactive = vueWalk;
+		VueObserver = obProto.constructor;
+		VueDep = Object.getPrototypeOf(ob.dep).constructor;
+
+		customizeVueDep(Object.getPrototypeOf(ob.dep));
+	};
+
+	/**
+	 * Batch of mutations, see VueGWTObserverManager.batch().
+	 * While a batch is running, render and user watchers are notified only once at the end, and
+	 * new values are observed in one pass.
+	 * Computed properties are lazy: they are marked dirty right away, so reading them during the
+	 * batch gives their new value. They are only evaluated if they are read.
+	 */
+	let batchDepth = 0;
+	let batchedDeps = [];
+	let batchedValues = [];
+	let depNotify;
+	let VueObserver;
+	let VueDep;
+	const defineReactive = Vue.util.defineReactive;
+
+	function customizeVueDep(depProto) {
+		depNotify = depProto.notify;
+		depProto.notify = function () {
+			if (batchDepth === 0) {
+				depNotify.call(this);
+				return;
+			}
+
+			const subs = this.subs;
+			for (let i = 0; i < subs.length; i++) {
+				if (subs[i].lazy)
+					subs[i].update();
+			}
+
+			if (!this.vuegwt$isBatched) {
+				this.vuegwt$isBatched = true;
+				batchedDeps.push(this);
+			}
+		};
+	}
+
+	function notifyNotLazySubs(dep) {
+		const subs = dep.subs.slice();
+		for (let i = 0; i < subs.length; i++) {
+			if (!subs[i].lazy)
+				subs[i].update();
+		}
+	}
+
+	observerManager.startBatch = function () {
+		batchDepth++;
+	};
+
+	observerManager.endBatch = function () {
+		batchDepth--;
+		if (batchDepth > 0)
+			return;
+
+		const values = batchedValues;
+		const deps = batchedDeps;
+		batchedValues = [];
+		batchedDeps = [];
+		for (let i = 0; i < deps.length; i++)
+			deps[i].vuegwt$isBatched = false;
+
+		// A throwing watcher must not keep the other ones from being notified, the first error
+		// is thrown once they all are
+		let error = null;
+		try {
+			observerManager.observeArray(values);
+		} catch (e) {
+			error = e;
+		}
+		for (let i = 0; i < deps.length; i++) {
+			try {
+				notifyNotLazySubs(deps[i]);
+			} catch (e) {
+				if (error === null)
+					error = e;
+			}
+		}
+		if (error !== null)
+			throw error;
+	};
+
+	observerManager.observeNewValues = function (values) {
+		if (batchDepth === 0) {
+			observerManager.observeArray(values);
+			return;
+		}
+
+		for (let i = 0; i < values.length; i++)
+			batchedValues.push(values[i]);
 	};
 
 	/**
@@ -37,25 +134,187 @@
 	 * Therefore Vue.js don't see those properties when initializing it's observer.
 	 * To fix the issue, we manually look for those properties and set them explicitly on the
 	 * object.
+	 * The properties are resolved once per prototype and stored on it in a non enumerable property.
 	 */
-	const staticPropertiesCache = {};
-	observerManager.makeStaticallyInitializedPropertiesReactive = function (javaObject, className) {
-		let cache = staticPropertiesCache[className];
-		if (!cache) {
-			cache = [];
-			const proto = Object.getPrototypeOf(javaObject);
-			for (let key in proto) {
-				const value = proto[key];
-				if (value === null || (typeof value !== "function" && typeof value !== "object"))
-					cache.push({key: key, value: value});
-			}
+	const staticPropertiesKey = "__vuegwt_staticProperties__";
+	observerManager.makeStaticallyInitializedPropertiesReactive = function (javaObject) {
+		const proto = Object.getPrototypeOf(javaObject);
+		let staticProperties;
+		if (proto.hasOwnProperty(staticPropertiesKey)) {
+			staticProperties = proto[staticPropertiesKey];
+		} else {
+			staticProperties = getStaticProperties(javaObject, proto);
+			Object.defineProperty(proto, staticPropertiesKey, {value: staticProperties});
 		}
 
 		// Set values on the object
-		cache.forEach(entry => {
+		for (let i = 0; i < staticProperties.length; i++) {
+			const entry = staticProperties[i];
 			if (!javaObject.hasOwnProperty(entry.key))
 				javaObject[entry.key] = entry.value;
-		});
+		}
+	};
+
+	/**
+	 * Get the properties to set on instances of a given prototype, with their default values.
+	 * Use the manifest generated at compile time for ReactiveModel classes, and fallback on
+	 * walking the prototype for other classes.
+	 */
+	function getStaticProperties(javaObject, proto) {
+		const staticProperties = [];
+		const manifest = getReactiveModelManifest(javaObject);
+		if (manifest) {
+			manifest().forEach(key => {
+				const value = proto[key];
+				staticProperties.push({key: key, value: value === undefined ? null : value});
+			});
+			return staticProperties;
+		}
+
+		const gwtInternalProperties = getGwtInternalProperties();
+		for (let key in proto) {
+			const value = proto[key];
+			if (gwtInternalProperties[key])
+				continue;
+
+			if (value === null || (typeof value !== "function" && typeof value !== "object"))
+				staticProperties.push({key: key, value: value});
+		}
+		return staticProperties;
+	}
+
+	/**
+	 * Make the properties of a Java object reactive, like Vue walk does, but skip the properties
+	 * the GWT compiler adds to Java objects: they are never read by a template and would cost a
+	 * getter/setter and a Dep per object.
+	 */
+	observerManager.makeJavaObjectReactive = function (javaObject) {
+		const gwtInternalProperties = getGwtInternalProperties();
+		const keys = Object.keys(javaObject);
+		for (let i = 0; i < keys.length; i++) {
+			const key = keys[i];
+			if (!gwtInternalProperties[key])
+				defineReactive(javaObject, key, javaObject[key]);
+		}
+	};
+
+	/**
+	 * The properties the GWT compiler adds to Java objects: the identity hash code, and the
+	 * fields of java.lang.Object (class literal, castable type map...).
+	 * Their names depend on the compilation, so we read them on a plain Java object.
+	 */
+	let gwtInternalProperties = null;
+
+	function getGwtInternalProperties() {
+		if (gwtInternalProperties)
+			return gwtInternalProperties;
+
+		gwtInternalProperties = Object.create(null);
+		gwtInternalProperties["$H"] = true;
+		const javaObject = observerManager.createJavaObject();
+		for (let key in javaObject) {
+			if (typeof javaObject[key] !== "function")
+				gwtInternalProperties[key] = true;
+		}
+		return gwtInternalProperties;
+	}
+
+	function getReactiveModelManifest(javaObject) {
+		const reactiveModels = context.VueGWT.reactiveModels;
+		if (!reactiveModels)
+			return null;
+
+		const manifestName = observerManager.getReactiveModelManifestName(javaObject);
+		return manifestName ? reactiveModels[manifestName] : null;
+	}
+
+	/**
+	 * Objects with this marker, set on them or on their prototype, are never observed: our walk
+	 * skips them and removes the observer Vue just set on them.
+	 * The marker is not enumerable, so it's invisible to the Java world.
+	 */
+	observerManager.freeze = function (object) {
+		if (object !== null && typeof object === "object"
+			&& !Object.prototype.hasOwnProperty.call(object, "vuegwt$nonReactive")) {
+			Object.defineProperty(object, "vuegwt$nonReactive", {value: true});
+		}
+		return object;
+	};
+
+	observerManager.freezeClass = function (javaObject) {
+		observerManager.freeze(Object.getPrototypeOf(javaObject));
+	};
+
+	observerManager.observeLazily = function (object) {
+		if (object !== null && typeof object === "object"
+			&& !Object.prototype.hasOwnProperty.call(object, "vuegwt$observeLazily")) {
+			Object.defineProperty(object, "vuegwt$observeLazily", {value: true});
+		}
+		return object;
+	};
+
+	observerManager.isObservedLazily = function (object) {
+		return object.vuegwt$observeLazily === true;
+	};
+
+	/**
+	 * Check if instances of the class of the given Java object should be observed.
+	 * Resolved once per prototype. When they shouldn't, the prototype itself is frozen, so the
+	 * next instances are skipped without calling back the Java world.
+	 */
+	const nonReactiveKey = "__vuegwt_nonReactive__";
+	observerManager.isNonReactiveClass = function (javaObject) {
+		const proto = Object.getPrototypeOf(javaObject);
+		if (proto.hasOwnProperty(nonReactiveKey))
+			return proto[nonReactiveKey];
+
+		const isNonReactive = observerManager.isNonReactiveModel(javaObject);
+		Object.defineProperty(proto, nonReactiveKey, {value: isNonReactive});
+		if (isNonReactive)
+			observerManager.freeze(proto);
+
+		return isNonReactive;
+	};
+
+	observerManager.hasNonReactiveMarker = function (jsName) {
+		const nonReactiveModels = context.VueGWT.nonReactiveModels;
+		return !!(nonReactiveModels && nonReactiveModels[jsName]);
+	};
+
+	/**
+	 * Typed arrays (Float64Array, Int32Array...) are observed as a whole.
+	 * They get a regular Vue observer, so Vue depends on it when they are in a reactive property,
+	 * but their elements are never walked (see TypedArrayObserver).
+	 */
+	observerManager.isTypedArray = function (object) {
+		return ArrayBuffer.isView(object) && !(object instanceof DataView);
+	};
+
+	observerManager.observeTypedArray = function (typedArray) {
+		if (!Object.prototype.hasOwnProperty.call(typedArray, "__ob__"))
+			new VueObserver(typedArray);
+		return typedArray;
+	};
+
+	observerManager.getTypedArrayItem = function (typedArray, index) {
+		const ob = typedArray.__ob__;
+		if (ob && VueDep.target)
+			ob.dep.depend();
+		return typedArray[index];
+	};
+
+	observerManager.setTypedArrayItem = function (typedArray, index, value) {
+		if (typedArray[index] === value)
+			return;
+
+		typedArray[index] = value;
+		observerManager.notifyTypedArray(typedArray);
+	};
+
+	observerManager.notifyTypedArray = function (typedArray) {
+		const ob = typedArray.__ob__;
+		if (ob)
+			ob.dep.notify();
 	};
 
 	/**
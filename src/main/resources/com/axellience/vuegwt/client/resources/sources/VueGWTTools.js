@@ -16,6 +16,40 @@
 	tools.extendVueClass = function (vueClassToExtend, vueComponentOptions) {
 		return vueClassToExtend.extend(vueComponentOptions);
 	};
+	/**
+	 * Set the data of the instance back to its initial values: the values returned by its data
+	 * function, then the values set by the constructor of its Java class.
+	 * The render watcher and the computed properties see the changes, but not the user watchers
+	 * (@Watch, $watch): their handlers are not called, and the values they compare the next
+	 * changes to become the reset values.
+	 * Used to reuse the instances released to the pool of their VueFactory.
+	 */
+	tools.resetInstanceData = function (vm, javaConstructor) {
+		const userWatchers = vm._watchers.filter(watcher => watcher.user && watcher.active);
+		userWatchers.forEach(watcher => watcher.update = ignoreWatcherUpdate);
+		try {
+			const data = vm.$options.data;
+			const initialData = typeof data === "function" ? data.call(vm) : data;
+			if (initialData) {
+				for (let key in initialData) {
+					if (key in vm._data)
+						vm._data[key] = initialData[key];
+				}
+			}
+
+			if (javaConstructor)
+				javaConstructor.call(vm);
+		} finally {
+			userWatchers.forEach(watcher => {
+				delete watcher.update;
+				watcher.value = watcher.get();
+			});
+		}
+	};
+
+	function ignoreWatcherUpdate() {
+	}
+
 	tools.javaArrayToJsArray = function (javaArray) {
 		// No conversion is needed, but Java compiler won't agree otherwise
 		return javaArray;
@@ -53,14 +87,195 @@
 			return result;
 		};
 	};
-	tools.extendVueConstructorWithJavaPrototype = function (extendedVueConstructor, componentJavaPrototype) {
+	/**
+	 * Mark the prototype of the given object with the given key.
+	 * Return true if the prototype was not marked yet, false otherwise.
+	 */
+	tools.markPrototype = function (object, key) {
+		const proto = Object.getPrototypeOf(object);
+		if (proto.hasOwnProperty(key))
+			return false;
+
+		Object.defineProperty(proto, key, {value: true});
+		return true;
+	};
+	/**
+	 * Wrap a method on the prototype owning it, so it's shared by all the instances.
+	 * The afterMethodCall is only called for observed objects (that have an __ob__), and only for
+	 * the outermost call when mutation methods call each other (addAll calling add, super calls...).
+	 * Views (like the result of subList) marked with setBackingCollection are handled as their
+	 * observed backing collection: the callback of the view is called once, with the backing
+	 * collection.
+	 * Callbacks get the arguments of the call as one array, GWT passes varargs to a JsFunction
+	 * this way.
+	 * The optional mutationCheck is called before the method, with the object it is called on:
+	 * when it returns false the call can't change the object, and the callback is not called.
+	 */
+	tools.wrapPrototypeMethod = function (object, methodName, afterMethodCall, mutationCheck) {
+		wrapOnPrototype(object, methodName, originalFunc => function () {
+			const backing = this.vuegwt$backingCollection;
+			const target = backing ? backing.collection : this;
+			const callback = backing ? backing.afterMethodCall : afterMethodCall;
+			const ob = target.__ob__;
+			if (!ob || ob.vuegwt$isMutating)
+				return originalFunc.apply(this, arguments);
+
+			const mayChange = !mutationCheck || mutationCheck(this, arguments);
+			let result;
+			ob.vuegwt$isMutating = true;
+			try {
+				result = originalFunc.apply(this, arguments);
+			} finally {
+				ob.vuegwt$isMutating = false;
+			}
+
+			if (mayChange)
+				callback(target, methodName, result, arguments);
+			return result;
+		});
+	};
+	/**
+	 * Same as wrapPrototypeMethod for methods that read the object.
+	 * The afterMethodCall is called for every call not made by a mutation method, and the object
+	 * is not marked as being mutated during the call.
+	 */
+	tools.wrapPrototypeReadMethod = function (object, methodName, afterMethodCall) {
+		wrapOnPrototype(object, methodName, originalFunc => function () {
+			const result = originalFunc.apply(this, arguments);
+			const ob = this.__ob__;
+			if (ob && !ob.vuegwt$isMutating)
+				afterMethodCall(this, methodName, result, arguments);
+
+			return result;
+		});
+	};
+	/**
+	 * Mark a view of an observed collection. The wrapped methods called on the view mute the
+	 * observer of the backing collection, and call the given callback instead of their own.
+	 */
+	tools.setBackingCollection = function (view, backingCollection, afterMethodCall) {
+		if (view && view !== backingCollection) {
+			Object.defineProperty(view, "vuegwt$backingCollection", {
+				value: {collection: backingCollection, afterMethodCall: afterMethodCall}
+			});
+		}
+	};
+	/**
+	 * Same as wrapPrototypeMethod, but the beforeMethodCall is called before the method.
+	 * Used for methods that read the object.
+	 */
+	tools.wrapPrototypeMethodWithBefore = function (object, methodName, beforeMethodCall) {
+		wrapOnPrototype(object, methodName, originalFunc => function () {
+			const ob = this.__ob__;
+			if (ob && !ob.vuegwt$isMutating)
+				beforeMethodCall(this, methodName, arguments);
+
+			return originalFunc.apply(this, arguments);
+		});
+	};
+
+	function wrapOnPrototype(object, methodName, wrap) {
+		let proto = Object.getPrototypeOf(object);
+		while (proto && !proto.hasOwnProperty(methodName))
+			proto = Object.getPrototypeOf(proto);
+
+		if (!proto)
+			return;
+
+		const originalFunc = proto[methodName];
+		if (originalFunc.vuegwt$isWrapped)
+			return;
+
+		const wrappedFunc = wrap(originalFunc);
+		wrappedFunc.vuegwt$isWrapped = true;
+		proto[methodName] = wrappedFunc;
+	}
+
+	tools.extendVueConstructorWithJavaPrototype = function (extendedVueConstructor, componentJavaPrototype, templateExpressions) {
 		const vueProto = extendedVueConstructor.prototype;
 
+		// Template expressions are called on the instance by the render function,
+		// so they don't need to be bound to each instance like Vue methods
+		if (templateExpressions) {
+			for (let expressionId in templateExpressions) {
+				vueProto[expressionId] = templateExpressions[expressionId];
+			}
+		}
+
 		// Copy from the Java Component prototype
 		for (let protoProp in componentJavaPrototype) {
 			if (!vueProto.hasOwnProperty(protoProp)) {
 				vueProto[protoProp] = componentJavaPrototype[protoProp];
 			}
 		}
+
+		vueProto.vuegwt$delegate = delegateEvent;
+	};
+	/**
+	 * Listener added by templates on the container of a v-for, for events with the .delegate
+	 * modifier. Each element of the v-for with a delegated listener has a DOM property holding
+	 * the name of the method to call, the position of $event in its parameters, and the
+	 * other parameters.
+	 * The methods are called from the target of the event up to the container, like if each
+	 * element had its own listener.
+	 */
+	function delegateEvent(propertyName, event) {
+		const container = event.currentTarget;
+		let element = event.target;
+		while (element && element !== container) {
+			const handler = element[propertyName];
+			if (handler) {
+				const parameters = handler.slice(2);
+				if (handler[1] !== -1)
+					parameters.splice(handler[1], 0, event);
+
+				this[handler[0]].apply(this, parameters);
+				if (event.cancelBubble)
+					return;
+			}
+			element = element.parentNode;
+		}
+	}
+	/**
+	 * Vue calls the render function of functional components without any instance.
+	 * Our templates and Java render functions expect one, so we give them a light render context
+	 * using the prototype of the Component: it has the template expressions, the Java methods
+	 * and the Vue render helpers, and reads the props from the functional context.
+	 * No data is observed, and no watcher or hook is created.
+	 */
+	tools.initFunctionalComponent = function (extendedVueConstructor) {
+		const options = extendedVueConstructor.options;
+		const proto = extendedVueConstructor.prototype;
+		const render = options.render;
+		// Functional components have no state, their data only holds constants (like styles)
+		const data = typeof options.data === "function" ? options.data() : null;
+		const methods = options.methods;
+
+		options.render = function (h, context) {
+			const renderContext = Object.create(proto);
+			renderContext._c = h;
+			renderContext._self = renderContext;
+			renderContext._renderProxy = renderContext;
+			renderContext._staticTrees = [];
+			renderContext._props = context.props;
+			renderContext.$options = options;
+			renderContext.$parent = context.parent;
+			renderContext.$listeners = context.listeners;
+			renderContext.$slots = context.slots();
+			renderContext.$scopedSlots = context.data.scopedSlots || {};
+
+			if (data) {
+				for (let key in data)
+					renderContext[key] = data[key];
+			}
+
+			// Methods used as values (event handlers...) must be bound, like Vue does
+			if (methods) {
+				for (let key in methods)
+					renderContext[key] = methods[key].bind(renderContext);
+			}
+
+			return render.call(renderContext, h);
+		};
 	};
 })(window);
\ No newline at end of file
@@ -16,6 +16,40 @@
 	tools.extendVueClass = function (vueClassToExtend, vueComponentOptions) {
 		return vueClassToExtend.extend(vueComponentOptions);
 	};
+	/**
+	 * Set the data of the instance back to its initial values: the values returned by its data
+	 * function, then the values set by the constructor of its Java class.
+	 * The render watcher and the computed properties see the changes, but not the user watchers
+	 * (@Watch, $watch): their handlers are not called, and the values they compare the next
+	 * changes to become the reset values.
+	 * Used to reuse the instances released to the pool of their VueFactory.
+	 */
+	tools.resetInstanceData = function (vm, javaConstructor) {
+		const userWatchers = vm._watchers.filter(watcher => watcher.user && watcher.active);
+		userWatchers.forEach(watcher => watcher.update = ignoreWatcherUpdate);
+		try {
+			const data = vm.$options.data;
+			const initialData = typeof data === "function" ? data.call(vm) : data;
+			if (initialData) {
+				for (let key in initialData) {
+					if (key in vm._data)
+						vm._data[key] = initialData[key];
+				}
+			}
+
+			if (javaConstructor)
+				javaConstructor.call(vm);
+		} finally {
+			userWatchers.forEach(watcher => {
+				delete watcher.update;
+				watcher.value = watcher.get();
+			});
+		}
+	};
+
+	function ignoreWatcherUpdate() {
+	}
+
 	tools.javaArrayToJsArray = function (javaArray) {
 		// No conversion is needed, but Java compiler won't agree otherwise
 		return javaArray;
@@ -53,15 +87,196 @@
 			return result;
 		};
 	};
-	tools.extendVueConstructorWithJavaPrototype = function (extendedVueConstructor, componentJavaPrototype) {
+	/**
+	 * Mark the prototype of the given object with the given key.
+	 * Return true if the prototype was not marked yet, false otherwise.
+	 */
+	tools.markPrototype = function (object, key) {
+		const proto = Object.getPrototypeOf(object);
+		if (proto.hasOwnProperty(key))
+			return false;
+
+		Object.defineProperty(proto, key, {value: true});
+		return true;
+	};
+	/**
+	 * Wrap a method on the prototype owning it, so it's shared by all the instances.
+	 * The afterMethodCall is only called for observed objects (that have an __ob__), and only for
+	 * the outermost call when mutation methods call each other (addAll calling add, super calls...).
+	 * Views (like the result of subList) marked with setBackingCollection are handled as their
+	 * observed backing collection: the callback of the view is called once, with the backing
+	 * collection.
+	 * Callbacks get the arguments of the call as one array, GWT passes varargs to a JsFunction
+	 * this way.
+	 * The optional mutationCheck is called before the method, with the object it is called on:
+	 * when it returns false the call can't change the object, and the callback is not called.
+	 */
+	tools.wrapPrototypeMethod = function (object, methodName, afterMethodCall, mutationCheck) {
+		wrapOnPrototype(object, methodName, originalFunc => function () {
+			const backing = this.vuegwt$backingCollection;
+			const target = backing ? backing.collection : this;
+			const callback = backing ? backing.afterMethodCall : afterMethodCall;
+			const ob = target.__ob__;
+			if (!ob || ob.vuegwt$isMutating)
+				return originalFunc.apply(this, arguments);
+
+			const mayChange = !mutationCheck || mutationCheck(this, arguments);
+			let result;
+			ob.vuegwt$isMutating = true;
+			try {
+				result = originalFunc.apply(this, arguments);
+			} finally {
+				ob.vuegwt$isMutating = false;
+			}
+
+			if (mayChange)
+				callback(target, methodName, result, arguments);
+			return result;
+		});
+	};
+	/**
+	 * Same as wrapPrototypeMethod for methods that read the object.
+	 * The afterMethodCall is called for every call not made by a mutation method, and the object
+	 * is not marked as being mutated during the call.
+	 */
+	tools.wrapPrototypeReadMethod = function (object, methodName, afterMethodCall) {
+		wrapOnPrototype(object, methodName, originalFunc => function () {
+			const result = originalFunc.apply(this, arguments);
+			const ob = this.__ob__;
+			if (ob && !ob.vuegwt$isMutating)
+				afterMethodCall(this, methodName, result, arguments);
+
+			return result;
+		});
+	};
+	/**
+	 * Mark a view of an observed collection. The wrapped methods called on the view mute the
+	 * observer of the backing collection, and call the given callback instead of their own.
+	 */
+	tools.setBackingCollection = function (view, backingCollection, afterMethodCall) {
+		if (view && view !== backingCollection) {
+			Object.defineProperty(view, "vuegwt$backingCollection", {
+				value: {collection: backingCollection, afterMethodCall: afterMethodCall}
+			});
+		}
+	};
+	/**
+	 * Same as wrapPrototypeMethod, but the beforeMethodCall is called before the method.
+	 * Used for methods that read the object.
+	 */
+	tools.wrapPrototypeMethodWithBefore = function (object, methodName, beforeMethodCall) {
+		wrapOnPrototype(object, methodName, originalFunc => function () {
+			const ob = this.__ob__;
+			if (ob && !ob.vuegwt$isMutating)
+				beforeMethodCall(this, methodName, arguments);
+
+			return originalFunc.apply(this, arguments);
+		});
+	};
+
+	function wrapOnPrototype(object, methodName, wrap) {
+		let proto = Object.getPrototypeOf(object);
+		while (proto && !proto.hasOwnProperty(methodName))
+			proto = Object.getPrototypeOf(proto);
+
+		if (!proto)
+			return;
+
+		const originalFunc = proto[methodName];
+		if (originalFunc.vuegwt$isWrapped)
+			return;
+
+		const wrappedFunc = wrap(originalFunc);
+		wrappedFunc.vuegwt$isWrapped = true;
+		proto[methodName] = wrappedFunc;
+	}
+
+	tools.extendVueConstructorWithJavaPrototype = function (extendedVueConstructor, componentJavaPrototype, templateExpressions) {
 		const vueProto = extendedVueConstructor.prototype;
 
+		// Template expressions are called on the instance by the render function,
+		// so they don't need to be bound to each instance like Vue methods
+		if (templateExpressions) {
+			for (let expressionId in templateExpressions) {
+				vueProto[expressionId] = templateExpressions[expressionId];
+			}
+		}
+
 		// Copy from the Java Component prototype
 		for (let protoProp in componentJavaPrototype) {
 			if (!vueProto.hasOwnProperty(protoProp)) {
 				vueProto[protoProp] = componentJavaPrototype[protoProp];
 			}
 		}
+
+		vueProto.vuegwt$delegate = delegateEvent;
+	};
+	/**
+	 * Listener added by templates on the container of a v-for, for events with the .delegate
+	 * modifier. Each element of the v-for with a delegated listener has a DOM property holding
+	 * the name of the method to call, the position of $event in its parameters, and the
+	 * other parameters.
+	 * The methods are called from the target of the event up to the container, like if each
+	 * element had its own listener.
+	 */
+	function delegateEvent(propertyName, event) {
+		const container = event.currentTarget;
+		let element = event.target;
+		while (element && element !== container) {
+			const handler = element[propertyName];
+			if (handler) {
+				const parameters = handler.slice(2);
+				if (handler[1] !== -1)
+					parameters.splice(handler[1], 0, event);
+
+				this[handler[0]].apply(this, parameters);
+				if (event.cancelBubble)
+					return;
+			}
+			element = element.parentNode;
+		}
+	}
+	/**
+	 * Vue calls the render function of functional components without any instance.
+	 * Our templates and Java render functions expect one, so we give them a light render context
+	 * using the prototype of the Component: it has the template expressions, the Java methods
+	 * and the Vue render helpers, and reads the props from the functional context.
+	 * No data is observed, and no watcher or hook is created.
+	 */
+	tools.initFunctionalComponent = function (extendedVueConstructor) {
+		const options = extendedVueConstructor.options;
+		const proto = extendedVueConstructor.prototype;
+		const render = options.render;
+		// Functional components have no state, their data only holds constants (like styles)
+		const data = typeof options.data === "function" ? options.data() : null;
+		const methods = options.methods;
+
+		options.render = function (h, context) {
+			const renderContext = Object.create(proto);
+			renderContext._c = h;
+			renderContext._self = renderContext;
+			renderContext._renderProxy = renderContext;
+			renderContext._staticTrees = [];
+			renderContext._props = context.props;
+			renderContext.$options = options;
+			renderContext.$parent = context.parent;
+			renderContext.$listeners = context.listeners;
+			renderContext.$slots = context.slots();
+			renderContext.$scopedSlots = context.data.scopedSlots || {};
+
+			if (data) {
+				for (let key in data)
+					renderContext[key] = data[key];
+			}
+
+			// Methods used as values (event handlers...) must be bound, like Vue does
+			if (methods) {
+				for (let key in methods)
+					renderContext[key] = methods[key].bind(renderContext);
+			}
+
+			return render.call(renderContext, h);
+		};
 	};
 })(window);(function (context) {
 	if (!context.VueGWT)
@@ -82,15 +297,112 @@
 		const obProto = Object.getPrototypeOf(ob);
 		const vueWalk = obProto.walk;
 		obProto.walk = function (obj) {
-			if (observerManager.observeJavaObject(obj)) {
-				return;
-			}
+			if (obj.vuegwt$nonReactive !== true && !observerManager.observeJavaObject(obj))
+				vueWalk(obj);
 
-			vueWalk(obj);
+			// Vue sets the observer before walking, we remove it from objects that must not be
+			// observed. Checked after observeJavaObject, as the first instance of a NonReactive
+			// class only gets its class marked there.
+			if (obj.vuegwt$nonReactive === true)
+				delete obj.__ob__;
 		};
 
 		observerManager.observeArray = obProto.observeArray;
 		observerManager.makeReactive = vueWalk;
+		VueObserver = obProto.constructor;
+		VueDep = Object.getPrototypeOf(ob.dep).constructor;
+
+		customizeVueDep(Object.getPrototypeOf(ob.dep));
+	};
+
+	/**
+	 * Batch of mutations, see VueGWTObserverManager.batch().
+	 * While a batch is running, render and user watchers are notified only once at the end, and
+	 * new values are observed in one pass.
+	 * Computed properties are lazy: they are marked dirty right away, so reading them during the
+	 * batch gives their new value. They are only evaluated if they are read.
+	 */
+	let batchDepth = 0;
+	let batchedDeps = [];
+	let batchedValues = [];
+	let depNotify;
+	let VueObserver;
+	let VueDep;
+	const defineReactive = Vue.util.defineReactive;
+
+	function customizeVueDep(depProto) {
+		depNotify = depProto.notify;
+		depProto.notify = function () {
+			if (batchDepth === 0) {
+				depNotify.call(this);
+				return;
+			}
+
+			const subs = this.subs;
+			for (let i = 0; i < subs.length; i++) {
+				if (subs[i].lazy)
+					subs[i].update();
+			}
+
+			if (!this.vuegwt$isBatched) {
+				this.vuegwt$isBatched = true;
+				batchedDeps.push(this);
+			}
+		};
+	}
+
+	function notifyNotLazySubs(dep) {
+		const subs = dep.subs.slice();
+		for (let i = 0; i < subs.length; i++) {
+			if (!subs[i].lazy)
+				subs[i].update();
+		}
+	}
+
+	observerManager.startBatch = function () {
+		batchDepth++;
+	};
+
+	observerManager.endBatch = function () {
+		batchDepth--;
+		if (batchDepth > 0)
+			return;
+
+		const values = batchedValues;
+		const deps = batchedDeps;
+		batchedValues = [];
+		batchedDeps = [];
+		for (let i = 0; i < deps.length; i++)
+			deps[i].vuegwt$isBatched = false;
+
+		// A throwing watcher must not keep the other ones from being notified, the first error
+		// is thrown once they all are
+		let error = null;
+		try {
+			observerManager.observeArray(values);
+		} catch (e) {
+			error = e;
+		}
+		for (let i = 0; i < deps.length; i++) {
+			try {
+				notifyNotLazySubs(deps[i]);
+			} catch (e) {
+				if (error === null)
+					error = e;
+			}
+		}
+		if (error !== null)
+			throw error;
+	};
+
+	observerManager.observeNewValues = function (values) {
+		if (batchDepth === 0) {
+			observerManager.observeArray(values);
+			return;
+		}
+
+		for (let i = 0; i < values.length; i++)
+			batchedValues.push(values[i]);
 	};
 
 	/**
@@ -102,25 +414,187 @@
 	 * Therefore Vue.js don't see those properties when initializing it's observer.
 	 * To fix the issue, we manually look for those properties and set them explicitly on the
 	 * object.
+	 * The properties are resolved once per prototype and stored on it in a non enumerable property.
 	 */
-	const staticPropertiesCache = {};
-	observerManager.makeStaticallyInitializedPropertiesReactive = function (javaObject, className) {
-		let cache = staticPropertiesCache[className];
-		if (!cache) {
-			cache = [];
-			const proto = Object.getPrototypeOf(javaObject);
-			for (let key in proto) {
-				const value = proto[key];
-				if (value === null || (typeof value !== "function" && typeof value !== "object"))
-					cache.push({key: key, value: value});
-			}
+	const staticPropertiesKey = "__vuegwt_staticProperties__";
+	observerManager.makeStaticallyInitializedPropertiesReactive = function (javaObject) {
+		const proto = Object.getPrototypeOf(javaObject);
+		let staticProperties;
+		if (proto.hasOwnProperty(staticPropertiesKey)) {
+			staticProperties = proto[staticPropertiesKey];
+		} else {
+			staticProperties = getStaticProperties(javaObject, proto);
+			Object.defineProperty(proto, staticPropertiesKey, {value: staticProperties});
 		}
 
 		// Set values on the object
-		cache.forEach(entry => {
+		for (let i = 0; i < staticProperties.length; i++) {
+			const entry = staticProperties[i];
 			if (!javaObject.hasOwnProperty(entry.key))
 				javaObject[entry.key] = entry.value;
-		});
+		}
+	};
+
+	/**
+	 * Get the properties to set on instances of a given prototype, with their default values.
+	 * Use the manifest generated at compile time for ReactiveModel classes, and fallback on
+	 * walking the prototype for other classes.
+	 */
+	function getStaticProperties(javaObject, proto) {
+		const staticProperties = [];
+		const manifest = getReactiveModelManifest(javaObject);
+		if (manifest) {
+			manifest().forEach(key => {
+				const value = proto[key];
+				staticProperties.push({key: key, value: value === undefined ? null : value});
+			});
+			return staticProperties;
+		}
+
+		const gwtInternalProperties = getGwtInternalProperties();
+		for (let key in proto) {
+			const value = proto[key];
+			if (gwtInternalProperties[key])
+				continue;
+
+			if (value === null || (typeof value !== "function" && typeof value !== "object"))
+				staticProperties.push({key: key, value: value});
+		}
+		return staticProperties;
+	}
+
+	/**
+	 * Make the properties of a Java object reactive, like Vue walk does, but skip the properties
+	 * the GWT compiler adds to Java objects: they are never read by a template and would cost a
+	 * getter/setter and a Dep per object.
+	 */
+	observerManager.makeJavaObjectReactive = function (javaObject) {
+		const gwtInternalProperties = getGwtInternalProperties();
+		const keys = Object.keys(javaObject);
+		for (let i = 0; i < keys.length; i++) {
+			const key = keys[i];
+			if (!gwtInternalProperties[key])
+				defineReactive(javaObject, key, javaObject[key]);
+		}
+	};
+
+	/**
+	 * The properties the GWT compiler adds to Java objects: the identity hash code, and the
+	 * fields of java.lang.Object (class literal, castable type map...).
+	 * Their names depend on the compilation, so we read them on a plain Java object.
+	 */
+	let gwtInternalProperties = null;
+
+	function getGwtInternalProperties() {
+		if (gwtInternalProperties)
+			return gwtInternalProperties;
+
+		gwtInternalProperties = Object.create(null);
+		gwtInternalProperties["$H"] = true;
+		const javaObject = observerManager.createJavaObject();
+		for (let key in javaObject) {
+			if (typeof javaObject[key] !== "function")
+				gwtInternalProperties[key] = true;
+		}
+		return gwtInternalProperties;
+	}
+
+	function getReactiveModelManifest(javaObject) {
+		const reactiveModels = context.VueGWT.reactiveModels;
+		if (!reactiveModels)
+			return null;
+
+		const manifestName = observerManager.getReactiveModelManifestName(javaObject);
+		return manifestName ? reactiveModels[manifestName] : null;
+	}
+
+	/**
+	 * Objects with this marker, set on them or on their prototype, are never observed: our walk
+	 * skips them and removes the observer Vue just set on them.
+	 * The marker is not enumerable, so it's invisible to the Java world.
+	 */
+	observerManager.freeze = function (object) {
+		if (object !== null && typeof object === "object"
+			&& !Object.prototype.hasOwnProperty.call(object, "vuegwt$nonReactive")) {
+			Object.defineProperty(object, "vuegwt$nonReactive", {value: true});
+		}
+		return object;
+	};
+
+	observerManager.freezeClass = function (javaObject) {
+		observerManager.freeze(Object.getPrototypeOf(javaObject));
+	};
+
+	observerManager.observeLazily = function (object) {
+		if (object !== null && typeof object === "object"
+			&& !Object.prototype.hasOwnProperty.call(object, "vuegwt$observeLazily")) {
+			Object.defineProperty(object, "vuegwt$observeLazily", {value: true});
+		}
+		return object;
+	};
+
+	observerManager.isObservedLazily = function (object) {
+		return object.vuegwt$observeLazily === true;
+	};
+
+	/**
+	 * Check if instances of the class of the given Java object should be observed.
+	 * Resolved once per prototype. When they shouldn't, the prototype itself is frozen, so the
+	 * next instances are skipped without calling back the Java world.
+	 */
+	const nonReactiveKey = "__vuegwt_nonReactive__";
+	observerManager.isNonReactiveClass = function (javaObject) {
+		const proto = Object.getPrototypeOf(javaObject);
+		if (proto.hasOwnProperty(nonReactiveKey))
+			return proto[nonReactiveKey];
+
+		const isNonReactive = observerManager.isNonReactiveModel(javaObject);
+		Object.defineProperty(proto, nonReactiveKey, {value: isNonReactive});
+		if (isNonReactive)
+			observerManager.freeze(proto);
+
+		return isNonReactive;
+	};
+
+	observerManager.hasNonReactiveMarker = function (jsName) {
+		const nonReactiveModels = context.VueGWT.nonReactiveModels;
+		return !!(nonReactiveModels && nonReactiveModels[jsName]);
+	};
+
+	/**
+	 * Typed arrays (Float64Array, Int32Array...) are observed as a whole.
+	 * They get a regular Vue observer, so Vue depends on it when they are in a reactive property,
+	 * but their elements are never walked (see TypedArrayObserver).
+	 */
+	observerManager.isTypedArray = function (object) {
+		return ArrayBuffer.isView(object) && !(object instanceof DataView);
+	};
+
+	observerManager.observeTypedArray = function (typedArray) {
+		if (!Object.prototype.hasOwnProperty.call(typedArray, "__ob__"))
+			new VueObserver(typedArray);
+		return typedArray;
+	};
+
+	observerManager.getTypedArrayItem = function (typedArray, index) {
+		const ob = typedArray.__ob__;
+		if (ob && VueDep.target)
+			ob.dep.depend();
+		return typedArray[index];
+	};
+
+	observerManager.setTypedArrayItem = function (typedArray, index, value) {
+		if (typedArray[index] === value)
+			return;
+
+		typedArray[index] = value;
+		observerManager.notifyTypedArray(typedArray);
+	};
+
+	observerManager.notifyTypedArray = function (typedArray) {
+		const ob = typedArray.__ob__;
+		if (ob)
+			ob.dep.notify();
 	};
 
 	/**
@@ -132,4 +606,228 @@
 			observerManager.customizeVueObserver(this.$data.__ob__);
 		}
 	});
-})(window);
\ No newline at end of file
+})(window);(function (context) {
+	if (!context.VueGWT)
+		context.VueGWT = {};
+	if (!context.VueGWT.metrics)
+		context.VueGWT.metrics = {};
+
+	const metrics = context.VueGWT.metrics;
+
+	/**
+	 * Record how long Components take to init, render and patch.
+	 * Vue.js only measures this in its development build, this works with any build.
+	 * The methods of the Vue prototype are wrapped the first time metrics are enabled.
+	 */
+	const now = typeof performance !== "undefined" && performance.now ?
+		() => performance.now() : () => Date.now();
+	const hasUserTiming = typeof performance !== "undefined" && performance.mark && performance.measure;
+
+	let isInstalled = false;
+	let isEnabled = false;
+	let sampleRate = 1;
+	let useUserTiming = false;
+	let componentsMetrics = {};
+	let instancesMetrics = {};
+
+	metrics.enable = function (rate, userTiming) {
+		install();
+		isEnabled = true;
+		sampleRate = rate;
+		useUserTiming = userTiming && hasUserTiming;
+	};
+	metrics.disable = function () {
+		isEnabled = false;
+	};
+	metrics.isEnabled = function () {
+		return isEnabled;
+	};
+	metrics.reset = function () {
+		componentsMetrics = {};
+		// Sampled instances still alive keep being measured
+		for (let id in instancesMetrics)
+			resetInstanceMetrics(instancesMetrics[id]);
+	};
+	metrics.getComponentsMetrics = function () {
+		return Object.keys(componentsMetrics).map(name => componentsMetrics[name]);
+	};
+	metrics.getInstancesMetrics = function () {
+		return Object.keys(instancesMetrics).map(id => instancesMetrics[id]);
+	};
+	metrics.toJSON = function () {
+		return JSON.stringify({
+			sampleRate: sampleRate,
+			components: metrics.getComponentsMetrics(),
+			instances: metrics.getInstancesMetrics()
+		});
+	};
+
+	function install() {
+		if (isInstalled)
+			return;
+		isInstalled = true;
+
+		const vueProto = Vue.prototype;
+		const vueInit = vueProto._init;
+		const vueMount = vueProto.$mount;
+		const vueRender = vueProto._render;
+		const vueUpdate = vueProto._update;
+		const vueDestroy = vueProto.$destroy;
+
+		vueProto._init = function (options) {
+			if (!isEnabled || Math.random() >= sampleRate)
+				return vueInit.call(this, options);
+
+			this.vuegwt$initStart = begin();
+			try {
+				vueInit.call(this, options);
+				endInit(this);
+			} finally {
+				// Only set if init failed before being recorded
+				if (this.vuegwt$initStart) {
+					clearMark(this.vuegwt$initStart);
+					delete this.vuegwt$initStart;
+				}
+			}
+		};
+		// Root instances with an el are mounted in _init, like Vue.js we don't count it in init
+		vueProto.$mount = function () {
+			endInit(this);
+			return vueMount.apply(this, arguments);
+		};
+		vueProto._render = function () {
+			const instanceMetrics = this.vuegwt$metrics;
+			if (!instanceMetrics || !isEnabled)
+				return vueRender.call(this);
+
+			const start = begin();
+			try {
+				const vnode = vueRender.call(this);
+				record(instanceMetrics, "render", start);
+				return vnode;
+			} finally {
+				clearMark(start);
+			}
+		};
+		vueProto._update = function () {
+			const instanceMetrics = this.vuegwt$metrics;
+			if (!instanceMetrics || !isEnabled)
+				return vueUpdate.apply(this, arguments);
+
+			const start = begin();
+			try {
+				const result = vueUpdate.apply(this, arguments);
+				record(instanceMetrics, "patch", start);
+				return result;
+			} finally {
+				clearMark(start);
+			}
+		};
+		vueProto.$destroy = function () {
+			const instanceMetrics = this.vuegwt$metrics;
+			const result = vueDestroy.apply(this, arguments);
+			if (instanceMetrics) {
+				delete instancesMetrics[instanceMetrics.id];
+				this.vuegwt$metrics = null;
+			}
+			return result;
+		};
+	}
+
+	function endInit(vm) {
+		const start = vm.vuegwt$initStart;
+		if (start === undefined)
+			return;
+
+		delete vm.vuegwt$initStart;
+		const componentName = getComponentName(vm);
+		const instanceMetrics = createInstanceMetrics(vm._uid, componentName);
+		vm.vuegwt$metrics = instanceMetrics;
+		instancesMetrics[instanceMetrics.id] = instanceMetrics;
+		getComponentMetrics(componentName).instanceCount++;
+		record(instanceMetrics, "init", start);
+		clearMark(start);
+	}
+
+	let markCount = 0;
+
+	function begin() {
+		const start = {time: now(), mark: null};
+		if (useUserTiming) {
+			start.mark = "vue-gwt-start-" + markCount++;
+			performance.mark(start.mark);
+		}
+		return start;
+	}
+
+	function record(instanceMetrics, phase, start) {
+		const duration = now() - start.time;
+		const componentMetrics = getComponentMetrics(instanceMetrics.componentName);
+
+		instanceMetrics[phase + "Count"]++;
+		instanceMetrics[phase + "Time"] += duration;
+		componentMetrics[phase + "Count"]++;
+		componentMetrics[phase + "Time"] += duration;
+		if (duration > componentMetrics[phase + "MaxTime"])
+			componentMetrics[phase + "MaxTime"] = duration;
+
+		// User Timing can be disabled while measuring
+		if (start.mark) {
+			const name = "vue-gwt " + instanceMetrics.componentName + "#" + instanceMetrics.id + " " + phase;
+			performance.measure(name, start.mark);
+			// The dev tools and the PerformanceObservers already got the measure, removing it
+			// keeps the User Timing buffer from growing on long running pages
+			performance.clearMeasures(name);
+		}
+	}
+
+	function clearMark(start) {
+		if (start.mark) {
+			performance.clearMarks(start.mark);
+			start.mark = null;
+		}
+	}
+
+	function getComponentName(vm) {
+		const options = vm.$options;
+		if (options.name || options._componentTag)
+			return options.name || options._componentTag;
+
+		return vm.$root === vm ? "Root" : "Anonymous";
+	}
+
+	function getComponentMetrics(componentName) {
+		let componentMetrics = componentsMetrics[componentName];
+		if (!componentMetrics) {
+			componentMetrics = {
+				name: componentName,
+				instanceCount: 0,
+				initCount: 0,
+				initTime: 0,
+				initMaxTime: 0,
+				renderCount: 0,
+				renderTime: 0,
+				renderMaxTime: 0,
+				patchCount: 0,
+				patchTime: 0,
+				patchMaxTime: 0
+			};
+			componentsMetrics[componentName] = componentMetrics;
+		}
+		return componentMetrics;
+	}
+
+	function createInstanceMetrics(id, componentName) {
+		return resetInstanceMetrics({id: id, componentName: componentName});
+	}
+
+	function resetInstanceMetrics(instanceMetrics) {
+		instanceMetrics.initCount = 0;
+		instanceMetrics.initTime = 0;
+		instanceMetrics.renderCount = 0;
+		instanceMetrics.renderTime = 0;
+		instanceMetrics.patchCount = 0;
+		instanceMetrics.patchTime = 0;
+		return instanceMetrics;
+	}
+})(window);
@@ -1,4 +1,20 @@
-(function(a){a.VueGWT||(a.VueGWT={});a.VueGWT.tools||(a.VueGWT.tools={});a=a.VueGWT.tools;a.createInstanceForVueClass=function(b){return new b};a.extendVueClass=function(b,c){return b.extend(c)};a.javaArrayToJsArray=function(b){return b};a.wrapMethodWithBefore=function(b,c,a){var d=b[c];null===d&&console.error("Attempting to wrap a non existing method",b,c);b[c]=function(){a(b,c,arguments);return d.apply(this,arguments)}};a.wrapMethodWithAfter=function(b,c,a){var d=b[c];null===d&&console.error("Attempting to wrap a non existing method",
-b,c);b[c]=function(){var e=d.apply(this,arguments);a(b,c,e,arguments);return e}};a.wrapMethod=function(b,a,d,e){var c=b[a];null===c&&console.error("Attempting to wrap a non existing method",b,a);b[a]=function(){d(b,a,arguments);var f=c.apply(this,arguments);e(b,a,f,arguments);return f}};a.extendVueConstructorWithJavaPrototype=function(b,a){b=b.prototype;for(var d in a)b.hasOwnProperty(d)||(b[d]=a[d])}})(window);
-(function(a){a.VueGWT||(a.VueGWT={});a.VueGWT.observerManager||(a.VueGWT.observerManager={});var b=a.VueGWT.observerManager;b.customizeVueObserver=function(a){a=Object.getPrototypeOf(a);var c=a.walk;a.walk=function(a){b.observeJavaObject(a)||c(a)};b.observeArray=a.observeArray;b.makeReactive=c};var c={};b.makeStaticallyInitializedPropertiesReactive=function(a,b){b=c[b];if(!b){b=[];var d=Object.getPrototypeOf(a),f;for(f in d){var e=d[f];(null===e||"function"!==typeof e&&"object"!==typeof e)&&b.push({key:f,
-value:e})}}b.forEach(function(b){a.hasOwnProperty(b.key)||(a[b.key]=b.value)})};new Vue({created:function(){b.customizeVueObserver(this.$data.__ob__)}})})(window);
\ No newline at end of file
+(function(c){function t(){}function q(a,b,g){for(a=Object.getPrototypeOf(a);a&&!a.hasOwnProperty(b);)a=Object.getPrototypeOf(a);if(a){var f=a[b];f.vuegwt$isWrapped||(g=g(f),g.vuegwt$isWrapped=!0,a[b]=g)}}function r(a,b){for(var g=b.currentTarget,f=b.target;f&&f!==g;){var d=f[a];if(d){var c=d.slice(2);-1!==d[1]&&c.splice(d[1],0,b);this[d[0]].apply(this,c);if(b.cancelBubble)break}f=f.parentNode}}c.VueGWT||(c.VueGWT={});c.VueGWT.tools||(c.VueGWT.tools={});c=c.VueGWT.tools;c.createInstanceForVueClass=
+function(a){return new a};c.extendVueClass=function(a,b){return a.extend(b)};c.resetInstanceData=function(a,b){var g=a._watchers.filter(function(b){return b.user&&b.active});g.forEach(function(b){return b.update=t});try{var f=a.$options.data,d="function"===typeof f?f.call(a):f;if(d)for(var c in d)c in a._data&&(a._data[c]=d[c]);b&&b.call(a)}finally{g.forEach(function(b){delete b.update;b.value=b.get()})}};c.javaArrayToJsArray=function(a){return a};c.wrapMethodWithBefore=function(a,b,c){var f=a[b];
+null===f&&console.error("Attempting to wrap a non existing method",a,b);a[b]=function(){c(a,b,arguments);return f.apply(this,arguments)}};c.wrapMethodWithAfter=function(a,b,c){var f=a[b];null===f&&console.error("Attempting to wrap a non existing method",a,b);a[b]=function(){var d=f.apply(this,arguments);c(a,b,d,arguments);return d}};c.wrapMethod=function(a,b,c,f){var d=a[b];null===d&&console.error("Attempting to wrap a non existing method",a,b);a[b]=function(){c(a,b,arguments);var g=d.apply(this,
+arguments);f(a,b,g,arguments);return g}};c.markPrototype=function(a,b){a=Object.getPrototypeOf(a);if(a.hasOwnProperty(b))return!1;Object.defineProperty(a,b,{value:!0});return!0};c.wrapPrototypeMethod=function(a,b,c,f){q(a,b,function(a){return function(){var d=this.vuegwt$backingCollection,g=d?d.collection:this,d=d?d.afterMethodCall:c,p=g.__ob__;if(!p||p.vuegwt$isMutating)return a.apply(this,arguments);var k=!f||f(this,arguments),l;p.vuegwt$isMutating=!0;try{l=a.apply(this,arguments)}finally{p.vuegwt$isMutating=
+!1}k&&d(g,b,l,arguments);return l}})};c.wrapPrototypeReadMethod=function(a,b,c){q(a,b,function(a){return function(){var d=a.apply(this,arguments),f=this.__ob__;f&&!f.vuegwt$isMutating&&c(this,b,d,arguments);return d}})};c.setBackingCollection=function(a,b,c){a&&a!==b&&Object.defineProperty(a,"vuegwt$backingCollection",{value:{collection:b,afterMethodCall:c}})};c.wrapPrototypeMethodWithBefore=function(a,b,c){q(a,b,function(a){return function(){var d=this.__ob__;d&&!d.vuegwt$isMutating&&c(this,b,arguments);
+return a.apply(this,arguments)}})};c.extendVueConstructorWithJavaPrototype=function(a,b,c){a=a.prototype;if(c)for(var f in c)a[f]=c[f];for(var d in b)a.hasOwnProperty(d)||(a[d]=b[d]);a.vuegwt$delegate=r};c.initFunctionalComponent=function(a){var b=a.options,c=a.prototype,f=b.render,d="function"===typeof b.data?b.data():null,n=b.methods;b.render=function(a,g){var k=Object.create(c);k._c=a;k._self=k;k._renderProxy=k;k._staticTrees=[];k._props=g.props;k.$options=b;k.$parent=g.parent;k.$listeners=g.listeners;
+k.$slots=g.slots();k.$scopedSlots=g.data.scopedSlots||{};if(d)for(var l in d)k[l]=d[l];if(n)for(var e in n)k[e]=n[e].bind(k);return f.call(k,a)}}})(window);
+(function(c){function t(b){n=b.notify;b.notify=function(){if(0===g)n.call(this);else{for(var b=this.subs,e=0;e<b.length;e++)b[e].lazy&&b[e].update();this.vuegwt$isBatched||(this.vuegwt$isBatched=!0,f.push(this))}}}function q(b,c){var e=[];if(b=a(b))return b().forEach(function(b){var a=c[b];e.push({key:b,value:void 0===a?null:a})}),e;b=r();for(var d in c){var h=c[d];b[d]||(null===h||"function"!==typeof h&&"object"!==typeof h)&&e.push({key:d,value:h})}return e}function r(){if(l)return l;l=Object.create(null);
+l.$H=!0;var e=b.createJavaObject(),a;for(a in e)"function"!==typeof e[a]&&(l[a]=!0);return l}function a(a){var e=c.VueGWT.reactiveModels;return e?(a=b.getReactiveModelManifestName(a))?e[a]:null:null}c.VueGWT||(c.VueGWT={});c.VueGWT.observerManager||(c.VueGWT.observerManager={});var b=c.VueGWT.observerManager;b.customizeVueObserver=function(a){var e=Object.getPrototypeOf(a),c=e.walk;e.walk=function(a){!0===a.vuegwt$nonReactive||b.observeJavaObject(a)||c(a);!0===a.vuegwt$nonReactive&&delete a.__ob__};
+b.observeArray=e.observeArray;b.makeReactive=c;v=e.constructor;p=Object.getPrototypeOf(a.dep).constructor;t(Object.getPrototypeOf(a.dep))};var g=0,f=[],d=[],n,v,p,k=Vue.util.defineReactive;b.startBatch=function(){g++};b.endBatch=function(){g--;if(!(0<g)){var a=d,c=f;d=[];f=[];for(var m=0;m<c.length;m++)c[m].vuegwt$isBatched=!1;m=null;try{b.observeArray(a)}catch(w){m=w}for(a=0;a<c.length;a++)try{for(var k=c[a].subs.slice(),h=0;h<k.length;h++)k[h].lazy||k[h].update()}catch(w){null===m&&(m=w)}if(null!==
+m)throw m;}};b.observeNewValues=function(a){if(0===g)b.observeArray(a);else for(var e=0;e<a.length;e++)d.push(a[e])};b.makeStaticallyInitializedPropertiesReactive=function(b){var a=Object.getPrototypeOf(b),e;a.hasOwnProperty("__vuegwt_staticProperties__")?e=a.__vuegwt_staticProperties__:(e=q(b,a),Object.defineProperty(a,"__vuegwt_staticProperties__",{value:e}));for(a=0;a<e.length;a++){var c=e[a];b.hasOwnProperty(c.key)||(b[c.key]=c.value)}};b.makeJavaObjectReactive=function(a){for(var b=r(),e=Object.keys(a),
+c=0;c<e.length;c++){var h=e[c];b[h]||k(a,h,a[h])}};var l=null;b.freeze=function(a){null===a||"object"!==typeof a||Object.prototype.hasOwnProperty.call(a,"vuegwt$nonReactive")||Object.defineProperty(a,"vuegwt$nonReactive",{value:!0});return a};b.freezeClass=function(a){b.freeze(Object.getPrototypeOf(a))};b.observeLazily=function(a){null===a||"object"!==typeof a||Object.prototype.hasOwnProperty.call(a,"vuegwt$observeLazily")||Object.defineProperty(a,"vuegwt$observeLazily",{value:!0});return a};b.isObservedLazily=
+function(a){return!0===a.vuegwt$observeLazily};b.isNonReactiveClass=function(a){var c=Object.getPrototypeOf(a);if(c.hasOwnProperty("__vuegwt_nonReactive__"))return c.__vuegwt_nonReactive__;a=b.isNonReactiveModel(a);Object.defineProperty(c,"__vuegwt_nonReactive__",{value:a});a&&b.freeze(c);return a};b.hasNonReactiveMarker=function(a){var b=c.VueGWT.nonReactiveModels;return!(!b||!b[a])};b.isTypedArray=function(a){return ArrayBuffer.isView(a)&&!(a instanceof DataView)};b.observeTypedArray=function(a){Object.prototype.hasOwnProperty.call(a,
+"__ob__")||new v(a);return a};b.getTypedArrayItem=function(a,b){var c=a.__ob__;c&&p.target&&c.dep.depend();return a[b]};b.setTypedArrayItem=function(a,c,d){a[c]!==d&&(a[c]=d,b.notifyTypedArray(a))};b.notifyTypedArray=function(a){(a=a.__ob__)&&a.dep.notify()};new Vue({created:function(){b.customizeVueObserver(this.$data.__ob__)}})})(window);
+(function(c){function t(){if(!p){p=!0;var c=Vue.prototype,d=c._init,e=c.$mount,f=c._render,g=c._update,n=c.$destroy;c._init=function(a){if(!k||Math.random()>=l)return d.call(this,a);this.vuegwt$initStart=r();try{d.call(this,a),q(this)}finally{this.vuegwt$initStart&&(b(this.vuegwt$initStart),delete this.vuegwt$initStart)}};c.$mount=function(){q(this);return e.apply(this,arguments)};c._render=function(){var c=this.vuegwt$metrics;if(!c||!k)return f.call(this);var d=r();try{var h=f.call(this);a(c,"render",
+d);return h}finally{b(d)}};c._update=function(){var c=this.vuegwt$metrics;if(!c||!k)return g.apply(this,arguments);var d=r();try{var h=g.apply(this,arguments);a(c,"patch",d);return h}finally{b(d)}};c.$destroy=function(){var a=this.vuegwt$metrics,b=n.apply(this,arguments);a&&(delete m[a.id],this.vuegwt$metrics=null);return b}}}function q(c){var d=c.vuegwt$initStart;if(void 0!==d){delete c.vuegwt$initStart;var h;h=c.$options;h=h.name||h._componentTag?h.name||h._componentTag:c.$root===c?"Root":"Anonymous";
+var e=f({id:c._uid,componentName:h});c.vuegwt$metrics=e;m[e.id]=e;g(h).instanceCount++;a(e,"init",d);b(d)}}function r(){var a={time:n(),mark:null};e&&(a.mark="vue-gwt-start-"+x++,performance.mark(a.mark));return a}function a(a,b,c){var d=n()-c.time,h=g(a.componentName);a[b+"Count"]++;a[b+"Time"]+=d;h[b+"Count"]++;h[b+"Time"]+=d;d>h[b+"MaxTime"]&&(h[b+"MaxTime"]=d);c.mark&&(a="vue-gwt "+a.componentName+"#"+a.id+" "+b,performance.measure(a,c.mark),performance.clearMeasures(a))}function b(a){a.mark&&
+(performance.clearMarks(a.mark),a.mark=null)}function g(a){var b=u[a];b||(b={name:a,instanceCount:0,initCount:0,initTime:0,initMaxTime:0,renderCount:0,renderTime:0,renderMaxTime:0,patchCount:0,patchTime:0,patchMaxTime:0},u[a]=b);return b}function f(a){a.initCount=0;a.initTime=0;a.renderCount=0;a.renderTime=0;a.patchCount=0;a.patchTime=0;return a}c.VueGWT||(c.VueGWT={});c.VueGWT.metrics||(c.VueGWT.metrics={});var d=c.VueGWT.metrics,n="undefined"!==typeof performance&&performance.now?function(){return performance.now()}:
+function(){return Date.now()},v="undefined"!==typeof performance&&performance.mark&&performance.measure,p=!1,k=!1,l=1,e=!1,u={},m={};d.enable=function(a,b){t();k=!0;l=a;e=b&&v};d.disable=function(){k=!1};d.isEnabled=function(){return k};d.reset=function(){u={};for(var a in m)f(m[a])};d.getComponentsMetrics=function(){return Object.keys(u).map(function(a){return u[a]})};d.getInstancesMetrics=function(){return Object.keys(m).map(function(a){return m[a]})};d.toJSON=function(){return JSON.stringify({sampleRate:l,
+components:d.getComponentsMetrics(),instances:d.getInstancesMetrics()})};var x=0})(window);
\ No newline at end of file
@@ -0,0 +1,205 @@
+package com.axellience.vuegwt.client.observer.persistent;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+/**
+ * Check {@link PersistentList} against an {@link ArrayList} doing the same changes.
+ * <br>
+ * Sizes are chosen around the limits of the trie: 32 elements fill the tail, 32 + 32 * 32 fill a
+ * root of one level, 32 + 32 * 32 * 32 fill a root of two levels.
+ */
+public class PersistentListTest
+{
+    private static final int[] LIMITS = { 32, 33, 64, 65, 1056, 1057, 1088, 32800, 32801 };
+
+    @Test
+    public void plusGrowsThroughTailAndRootOverflows()
+    {
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> list = PersistentList.empty();
+        for (int i = 0; i < 32801 + 32; i++)
+        {
+            list = list.plus(i);
+            expected.add(i);
+            if (isLimit(expected.size()))
+                assertSameElements(expected, list);
+        }
+        assertSameElements(expected, list);
+    }
+
+    @Test
+    public void minusLastShrinksThroughPopTail()
+    {
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> list = PersistentList.empty();
+        for (int i = 0; i < 32801 + 32; i++)
+        {
+            list = list.plus(i);
+            expected.add(i);
+        }
+
+        while (!expected.isEmpty())
+        {
+            list = list.minusLast();
+            expected.remove(expected.size() - 1);
+            if (isLimit(expected.size()) || isLimit(expected.size() + 1) || expected.size() < 3)
+                assertSameElements(expected, list);
+        }
+        assertSame(PersistentList.empty(), list);
+    }
+
+    @Test
+    public void minusLastThenPlusReusesTheTrie()
+    {
+        for (int limit : LIMITS)
+        {
+            List<Integer> expected = new ArrayList<>();
+            PersistentList<Integer> list = PersistentList.empty();
+            for (int i = 0; i < limit; i++)
+            {
+                list = list.plus(i);
+                expected.add(i);
+            }
+
+            list = list.minusLast().minusLast().plus(-1).plus(-2).plus(-3);
+            expected.remove(expected.size() - 1);
+            expected.remove(expected.size() - 1);
+            expected.addAll(Arrays.asList(-1, -2, -3));
+            assertSameElements(expected, list);
+        }
+    }
+
+    @Test
+    public void previousVersionsAreUnchanged()
+    {
+        PersistentList<Integer> list = PersistentList.empty();
+        List<PersistentList<Integer>> versions = new ArrayList<>();
+        for (int i = 0; i < 1100; i++)
+        {
+            versions.add(list);
+            list = list.plus(i);
+        }
+        list.with(10, -10).with(1080, -1080).minusLast();
+
+        for (int size = 0; size < versions.size(); size++)
+        {
+            PersistentList<Integer> version = versions.get(size);
+            assertEquals(size, version.size());
+            for (int i = 0; i < size; i++)
+                assertEquals(Integer.valueOf(i), version.get(i));
+        }
+    }
+
+    @Test
+    public void randomChangesMatchArrayList()
+    {
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> list = PersistentList.empty();
+        for (int step = 0; step < 20000; step++)
+        {
+            int operation = random.nextInt(10);
+            if (operation < 6 || expected.isEmpty())
+            {
+                int value = random.nextInt();
+                list = list.plus(value);
+                expected.add(value);
+            }
+            else if (operation < 8)
+            {
+                int index = random.nextInt(expected.size());
+                int value = random.nextInt();
+                list = list.with(index, value);
+                expected.set(index, value);
+            }
+            else
+            {
+                list = list.minusLast();
+                expected.remove(expected.size() - 1);
+            }
+        }
+        assertSameElements(expected, list);
+    }
+
+    @Test
+    public void withSameValueReturnsSameList()
+    {
+        Integer value = 1000;
+        PersistentList<Integer> list = PersistentList.of(1, 2, value);
+        assertSame(list, list.with(2, value));
+    }
+
+    @Test
+    public void factoriesMatchArrayList()
+    {
+        assertSameElements(Arrays.asList(1, 2, 3), PersistentList.of(1, 2, 3));
+
+        PersistentList<Integer> list = PersistentList.of(1, 2);
+        assertSame(list, PersistentList.from(list));
+        assertSameElements(Arrays.asList(4, 5), PersistentList.from(Arrays.asList(4, 5)));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void getOutOfBoundsThrows()
+    {
+        PersistentList.of(1, 2).get(2);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void minusLastOnEmptyThrows()
+    {
+        PersistentList.empty().minusLast();
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void listMutationsThrow()
+    {
+        PersistentList.of(1).add(2);
+    }
+
+    private static boolean isLimit(int size)
+    {
+        for (int limit : LIMITS)
+        {
+            if (Math.abs(size - limit) <= 1)
+                return true;
+        }
+        return false;
+    }
+
+    private static void assertSameElements(List<Integer> expected, PersistentList<Integer> list)
+    {
+        assertEquals(expected.size(), list.size());
+        for (int i = 0; i < expected.size(); i++)
+            assertEquals(expected.get(i), list.get(i));
+
+        Iterator<Integer> iterator = list.iterator();
+        for (Integer value : expected)
+            assertEquals(value, iterator.next());
+        assertFalse(iterator.hasNext());
+        try
+        {
+            iterator.next();
+            fail("The iterator should be over");
+        }
+        catch (NoSuchElementException e)
+        {
+            // Expected
+        }
+
+        assertEquals(expected, list);
+        assertEquals(expected.hashCode(), list.hashCode());
+    }
+}
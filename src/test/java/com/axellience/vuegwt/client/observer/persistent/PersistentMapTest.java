@@ -0,0 +1,248 @@
+package com.axellience.vuegwt.client.observer.persistent;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Check {@link PersistentMap} against a {@link HashMap} doing the same changes.
+ * <br>
+ * Keys with chosen hashes build the deepest tries: hashes sharing their low bits nest bitmap nodes
+ * down to the last level, equal hashes end in collision nodes.
+ */
+public class PersistentMapTest
+{
+    @Test
+    public void randomChangesMatchHashMap()
+    {
+        Random random = new Random(42);
+        Map<Key, Integer> expected = new HashMap<>();
+        PersistentMap<Key, Integer> map = PersistentMap.empty();
+        for (int step = 0; step < 20000; step++)
+        {
+            // Few hash values mostly differing in their high bits, so collisions and deep nodes
+            // are frequent
+            int id = random.nextInt(500);
+            Key key = new Key(id, (id % 64) << 26 | id % 3);
+            if (random.nextInt(3) < 2)
+            {
+                int value = random.nextInt(10);
+                map = map.plus(key, value);
+                expected.put(key, value);
+            }
+            else
+            {
+                map = map.minus(key);
+                expected.remove(key);
+            }
+
+            if (step % 1000 == 0)
+                assertSameEntries(expected, map);
+        }
+        assertSameEntries(expected, map);
+
+        for (Key key : new ArrayList<>(expected.keySet()))
+        {
+            map = map.minus(key);
+            expected.remove(key);
+        }
+        assertSame(PersistentMap.empty(), map);
+    }
+
+    @Test
+    public void collisionNodesNestAndCollapse()
+    {
+        Key first = new Key(1, 7);
+        Key second = new Key(2, 7);
+        Key third = new Key(3, 7);
+        Key other = new Key(4, 7 | 1 << 30);
+
+        Map<Key, Integer> expected = new HashMap<>();
+        PersistentMap<Key, Integer> map = PersistentMap.empty();
+        for (Key key : new Key[] { first, second, third, other })
+        {
+            map = map.plus(key, key.id);
+            expected.put(key, key.id);
+            assertSameEntries(expected, map);
+        }
+
+        // Updating a colliding key keeps the others
+        map = map.plus(second, 20);
+        expected.put(second, 20);
+        assertSameEntries(expected, map);
+
+        for (Key key : new Key[] { second, first, other, third })
+        {
+            map = map.minus(key);
+            expected.remove(key);
+            assertSameEntries(expected, map);
+        }
+        assertSame(PersistentMap.empty(), map);
+    }
+
+    @Test
+    public void collisionNodeNestsUnderBitmapNodeForAnotherHash()
+    {
+        // Same hash for the first two keys, the third one only differs in the last bits
+        Key first = new Key(1, 0);
+        Key second = new Key(2, 0);
+        Key third = new Key(3, 1 << 31);
+
+        PersistentMap<Key, Integer> map = PersistentMap.<Key, Integer>empty()
+            .plus(first, 1)
+            .plus(second, 2)
+            .plus(third, 3);
+        Map<Key, Integer> expected = new HashMap<>();
+        expected.put(first, 1);
+        expected.put(second, 2);
+        expected.put(third, 3);
+        assertSameEntries(expected, map);
+
+        map = map.minus(first);
+        expected.remove(first);
+        assertSameEntries(expected, map);
+        map = map.minus(third);
+        expected.remove(third);
+        assertSameEntries(expected, map);
+    }
+
+    @Test
+    public void iteratorGoesThroughTheDeepestTrie()
+    {
+        Map<Key, Integer> expected = new HashMap<>();
+        PersistentMap<Key, Integer> map = PersistentMap.empty();
+
+        // Hashes only differing in their highest bit are at the last level of the trie, with a
+        // collision node under them
+        int id = 0;
+        for (int hash : new int[] { 0, 1 << 30, 1 << 31, 3 << 30 })
+        {
+            for (int i = 0; i < 3; i++)
+            {
+                Key key = new Key(id++, hash);
+                map = map.plus(key, key.id);
+                expected.put(key, key.id);
+            }
+        }
+        assertSameEntries(expected, map);
+    }
+
+    @Test
+    public void previousVersionsAreUnchanged()
+    {
+        PersistentMap<Integer, Integer> map = PersistentMap.empty();
+        List<PersistentMap<Integer, Integer>> versions = new ArrayList<>();
+        for (int i = 0; i < 2000; i++)
+        {
+            versions.add(map);
+            map = map.plus(i, i);
+        }
+        map.minus(10).plus(20, -20);
+
+        for (int size = 0; size < versions.size(); size++)
+        {
+            PersistentMap<Integer, Integer> version = versions.get(size);
+            assertEquals(size, version.size());
+            for (int i = 0; i < size; i++)
+                assertEquals(Integer.valueOf(i), version.get(i));
+            assertFalse(version.containsKey(size));
+        }
+    }
+
+    @Test
+    public void unchangedVersionsAreReturnedAsIs()
+    {
+        Integer value = 1000;
+        PersistentMap<String, Integer> map =
+            PersistentMap.<String, Integer>empty().plus("a", value);
+        assertSame(map, map.plus("a", value));
+        assertSame(map, map.minus("b"));
+        assertSame(map, PersistentMap.from(map));
+    }
+
+    @Test
+    public void nullKeysAndValuesAreSupported()
+    {
+        PersistentMap<String, Integer> map = PersistentMap.<String, Integer>empty()
+            .plus(null, 1)
+            .plus("a", null);
+        assertEquals(Integer.valueOf(1), map.get(null));
+        assertTrue(map.containsKey("a"));
+        assertNull(map.get("a"));
+        assertEquals(1, map.minus(null).size());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void mapMutationsThrow()
+    {
+        PersistentMap.<String, Integer>empty().put("a", 1);
+    }
+
+    private static void assertSameEntries(Map<Key, Integer> expected,
+        PersistentMap<Key, Integer> map)
+    {
+        assertEquals(expected.size(), map.size());
+        for (Entry<Key, Integer> entry : expected.entrySet())
+        {
+            assertTrue(map.containsKey(entry.getKey()));
+            assertEquals(entry.getValue(), map.get(entry.getKey()));
+        }
+
+        Set<Key> iteratedKeys = new HashSet<>();
+        for (Entry<Key, Integer> entry : map.entrySet())
+        {
+            assertTrue("Key iterated twice: " + entry.getKey(), iteratedKeys.add(entry.getKey()));
+            assertEquals(expected.get(entry.getKey()), entry.getValue());
+        }
+        assertEquals(expected.keySet(), iteratedKeys);
+
+        assertEquals(expected, map);
+        assertEquals(expected.hashCode(), map.hashCode());
+    }
+
+    /**
+     * A key with a chosen hash code, equal to the keys with the same id.
+     */
+    private static final class Key
+    {
+        private final int id;
+        private final int hash;
+
+        Key(int id, int hash)
+        {
+            this.id = id;
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean equals(Object object)
+        {
+            return object instanceof Key && ((Key) object).id == id;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hash;
+        }
+
+        @Override
+        public String toString()
+        {
+            return "Key(" + id + ", " + Integer.toHexString(hash) + ")";
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.axellience.vuegwt.jsr69;
+
+import javax.tools.Diagnostic;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaCompiler.CompilationTask;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Run {@link VueGwtProcessor} through javax.tools on a generated project, to see where javac
+ * time goes.
+ * <br>
+ * The project has chains of Components extending each other. Each Component has data, a prop,
+ * a computed property, a watcher, a method and an injected dependency, and the last Component
+ * of each chain uses the last Component of the previous chain as a local Component.
+ * <br>
+ * The project is compiled once without annotation processing, and once with {@link
+ * VueGwtProcessor} and the {@link GenerationTimer} enabled. Both times are printed, followed by
+ * the time spent by each generator.
+ * <br>
+ * Run the main method with the test classpath. Arguments are the number of Components (1000 by
+ * default) and the depth of the inheritance chains (10 by default).
+ */
+public class VueGwtProcessorBenchmark
+{
+    private static final String PACKAGE_NAME = "vuegwtbenchmark";
+
+    public static void main(String[] args) throws IOException
+    {
+        int componentCount = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int depth = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+
+        Path root = Files.createTempDirectory("vue-gwt-benchmark");
+        try
+        {
+            List<File> sources = generateProject(root.resolve("src"), componentCount, depth);
+            System.out.println("Generated "
+                + componentCount
+                + " Components in chains of "
+                + depth
+                + " in "
+                + root);
+
+            long javacTime = compile(root.resolve("javac"), sources, false);
+            System.out.println("javac without annotation processing: " + javacTime + "ms");
+
+            long processorTime = compile(root.resolve("processor"), sources, true);
+            System.out.println("javac with VueGwtProcessor: " + processorTime + "ms");
+        }
+        finally
+        {
+            delete(root);
+        }
+    }
+
+    private static List<File> generateProject(Path sourceFolder, int componentCount, int depth)
+    throws IOException
+    {
+        Path packageFolder = sourceFolder.resolve(PACKAGE_NAME);
+        Files.createDirectories(packageFolder);
+
+        List<File> sources = new ArrayList<>();
+        sources.add(write(packageFolder,
+            "BenchmarkService",
+            "public class BenchmarkService {\n"
+                + "    public String getValue() { return \"value\"; }\n"
+                + "}\n"));
+
+        int chainCount = (componentCount + depth - 1) / depth;
+        for (int chain = 0; chain < chainCount; chain++)
+        {
+            int chainDepth = Math.min(depth, componentCount - chain * depth);
+            for (int level = 0; level < chainDepth; level++)
+            {
+                String previousLeaf = chain > 0 ? getComponentName(chain - 1, depth - 1) : null;
+                boolean isLeaf = level == chainDepth - 1;
+                sources.add(write(packageFolder,
+                    getComponentName(chain, level),
+                    generateComponent(chain, level, isLeaf, previousLeaf)));
+            }
+        }
+
+        return sources;
+    }
+
+    private static String getComponentName(int chain, int level)
+    {
+        return "Chain" + chain + "Level" + level + "Component";
+    }
+
+    private static String generateComponent(int chain, int level, boolean isLeaf,
+        String localComponent)
+    {
+        String name = getComponentName(chain, level);
+        String superClass = level == 0 ? "VueComponent" : getComponentName(chain, level - 1);
+        String suffix = "L" + level;
+
+        String componentAnnotation = isLeaf && localComponent != null ?
+            "@Component(components = " + localComponent + ".class)" : "@Component";
+
+        return "import com.axellience.vuegwt.client.component.VueComponent;\n"
+            + "import com.axellience.vuegwt.client.component.hooks.HasCreated;\n"
+            + "import com.axellience.vuegwt.jsr69.component.annotations.Component;\n"
+            + "import com.axellience.vuegwt.jsr69.component.annotations.Computed;\n"
+            + "import com.axellience.vuegwt.jsr69.component.annotations.Prop;\n"
+            + "import com.axellience.vuegwt.jsr69.component.annotations.Watch;\n"
+            + "import jsinterop.annotations.JsMethod;\n"
+            + "import jsinterop.annotations.JsProperty;\n"
+            + "import javax.inject.Inject;\n"
+            + "\n"
+            + componentAnnotation
+            + "\n"
+            + "public "
+            + (isLeaf ? "" : "abstract ")
+            + "class "
+            + name
+            + " extends "
+            + superClass
+            + (level == 0 ? " implements HasCreated" : "")
+            + " {\n"
+            + "    @Inject BenchmarkService service"
+            + suffix
+            + ";\n"
+            + "    @JsProperty String text"
+            + suffix
+            + " = \"text\";\n"
+            + "    @JsProperty int count"
+            + suffix
+            + " = 0;\n"
+            + "    @Prop @JsProperty String label"
+            + suffix
+            + ";\n"
+            + "\n"
+            + "    @Computed public String getUpperText"
+            + suffix
+            + "() { return text"
+            + suffix
+            + ".toUpperCase(); }\n"
+            + "\n"
+            + "    @Watch(propertyName = \"count"
+            + suffix
+            + "\") void onCount"
+            + suffix
+            + "Change(int value) { text"
+            + suffix
+            + " = service"
+            + suffix
+            + ".getValue() + value; }\n"
+            + "\n"
+            + "    @JsMethod void increment"
+            + suffix
+            + "() { count"
+            + suffix
+            + "++; }\n"
+            + (level == 0 ? "\n    @Override public void created() { }\n" : "")
+            + "}\n";
+    }
+
+    private static File write(Path packageFolder, String className, String classBody)
+    throws IOException
+    {
+        Path file = packageFolder.resolve(className + ".java");
+        String source = "package " + PACKAGE_NAME + ";\n\n" + classBody;
+        Files.write(file, source.getBytes(StandardCharsets.UTF_8));
+        return file.toFile();
+    }
+
+    /**
+     * Compile the sources and return the time it took.
+     * @param outputFolder Where to put the classes and generated sources
+     * @param sources The sources to compile
+     * @param withProcessor Whether to run {@link VueGwtProcessor}
+     * @return The compilation time in milliseconds
+     */
+    private static long compile(Path outputFolder, List<File> sources, boolean withProcessor)
+    throws IOException
+    {
+        Path classesFolder = Files.createDirectories(outputFolder.resolve("classes"));
+        Path generatedFolder = Files.createDirectories(outputFolder.resolve("generated"));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        List<String> options = new ArrayList<>(Arrays.asList("-classpath",
+            System.getProperty("java.class.path"),
+            "-d",
+            classesFolder.toString(),
+            "-s",
+            generatedFolder.toString(),
+            "-encoding",
+            "UTF-8"));
+
+        if (withProcessor)
+        {
+            options.add("-processor");
+            options.add(VueGwtProcessor.class.getName());
+            options.add("-A" + GenerationTimer.TIMING_OPTION + "=true");
+        }
+        else
+        {
+            options.add("-proc:none");
+        }
+
+        long start = System.nanoTime();
+        boolean isSuccess;
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics,
+            null,
+            StandardCharsets.UTF_8))
+        {
+            CompilationTask task = compiler.getTask(null,
+                fileManager,
+                diagnostics,
+                options,
+                null,
+                fileManager.getJavaFileObjectsFromFiles(sources));
+            isSuccess = task.call();
+        }
+        long duration = (System.nanoTime() - start) / 1_000_000;
+
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics())
+        {
+            String message = diagnostic.getMessage(null);
+            // The timer prints a note per type, only its summary is useful here
+            if (diagnostic.getKind() == Kind.ERROR || message.contains("summary"))
+                System.out.println(message);
+        }
+
+        if (!isSuccess)
+            throw new IllegalStateException("The benchmark project failed to compile");
+
+        return duration;
+    }
+
+    private static void delete(Path root) throws IOException
+    {
+        try (Stream<Path> paths = Files.walk(root))
+        {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+}
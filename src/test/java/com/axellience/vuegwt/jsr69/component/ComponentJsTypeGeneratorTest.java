@@ -0,0 +1,208 @@
+package com.axellience.vuegwt.jsr69.component;
+
+import com.axellience.vuegwt.jsr69.VueGwtProcessor;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.tools.Diagnostic;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Run {@link VueGwtProcessor} on small Components and check the methods registered in the
+ * options of their generated JsType.
+ */
+public class ComponentJsTypeGeneratorTest
+{
+    private static final String PACKAGE_NAME = "vuegwttest";
+
+    private Path root;
+
+    @Before
+    public void createRoot() throws IOException
+    {
+        root = Files.createTempDirectory("vue-gwt-test");
+    }
+
+    @After
+    public void deleteRoot() throws IOException
+    {
+        try (Stream<Path> paths = Files.walk(root))
+        {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Test
+    public void templateComponentOnlyRegistersBoundMethods() throws IOException
+    {
+        String jsType = generateJsType("TemplateComponent",
+            "@Component\n"
+                + "public class TemplateComponent extends VueComponent {\n"
+                + "    @JsMethod void onClick() { }\n"
+                + "    @BoundMethod @JsMethod void onTimeout() { }\n"
+                + "}\n");
+
+        assertTrue(jsType.contains("options.addMethods(\"onTimeout\")"));
+    }
+
+    @Test
+    public void renderComponentRegistersAllMethods() throws IOException
+    {
+        String jsType = generateJsType("RenderComponent",
+            "@Component\n"
+                + "public class RenderComponent extends VueComponent implements HasRender {\n"
+                + "    @JsMethod void onClick() { }\n"
+                + "    @Override public VNode render(VNodeBuilder builder) { return null; }\n"
+                + "}\n");
+
+        assertTrue(jsType.contains("\"onClick\""));
+    }
+
+    @Test
+    public void componentWithoutTemplateRegistersAllMethods() throws IOException
+    {
+        String jsType = generateJsType("NoTemplateComponent",
+            "@Component(hasTemplate = false)\n"
+                + "public class NoTemplateComponent extends VueComponent {\n"
+                + "    @JsMethod void onClick() { }\n"
+                + "}\n");
+
+        assertTrue(jsType.contains("\"onClick\""));
+    }
+
+    @Test
+    public void unboundMethodsOfTemplateComponentAreNotRegistered() throws IOException
+    {
+        String jsType = generateJsType("UnboundComponent",
+            "@Component\n"
+                + "public class UnboundComponent extends VueComponent {\n"
+                + "    @JsMethod void onClick() { }\n"
+                + "}\n");
+
+        assertFalse(jsType.contains("addMethods"));
+    }
+
+    @Test
+    public void asyncComponentJsTypeDoesNotReferenceItsFactory() throws IOException
+    {
+        String jsType = generateJsType("AsyncComponent",
+            "@Component(async = true)\n"
+                + "public class AsyncComponent extends VueComponent {\n"
+                + "}\n");
+
+        assertFalse(jsType.contains("AsyncComponentFactory"));
+        assertTrue(jsType.contains("@JsIgnore"));
+    }
+
+    @Test
+    public void asyncComponentWithInjectedDependenciesIsRejected() throws IOException
+    {
+        DiagnosticCollector<JavaFileObject> diagnostics = compile("InjectedAsyncComponent",
+            "@Component(async = true)\n"
+                + "public class InjectedAsyncComponent extends VueComponent {\n"
+                + "    @Inject String service;\n"
+                + "}\n");
+
+        assertTrue(getErrors(diagnostics).contains("can't use injection"));
+    }
+
+    /**
+     * Compile the given Component with {@link VueGwtProcessor} and return the source of its
+     * generated JsType.
+     * @param className The name of the Component class
+     * @param classBody The source of the Component, without package and imports
+     * @return The source of the generated JsType
+     */
+    private String generateJsType(String className, String classBody) throws IOException
+    {
+        DiagnosticCollector<JavaFileObject> diagnostics = compile(className, classBody);
+        String errors = getErrors(diagnostics);
+        if (!errors.isEmpty())
+            fail("The Component failed to compile:\n" + errors);
+
+        Path jsType = root
+            .resolve("generated")
+            .resolve(PACKAGE_NAME)
+            .resolve(className + "JsType.java");
+        return new String(Files.readAllBytes(jsType), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Compile the given Component with {@link VueGwtProcessor}.
+     * @param className The name of the Component class
+     * @param classBody The source of the Component, without package and imports
+     * @return The diagnostics of the compilation
+     */
+    private DiagnosticCollector<JavaFileObject> compile(String className, String classBody)
+        throws IOException
+    {
+        Path packageFolder = Files.createDirectories(root.resolve("src").resolve(PACKAGE_NAME));
+        Path source = packageFolder.resolve(className + ".java");
+        Files.write(source,
+            ("package " + PACKAGE_NAME + ";\n\n"
+                + "import com.axellience.vuegwt.client.component.HasRender;\n"
+                + "import com.axellience.vuegwt.client.component.VueComponent;\n"
+                + "import com.axellience.vuegwt.client.vnode.VNode;\n"
+                + "import com.axellience.vuegwt.client.vnode.builder.VNodeBuilder;\n"
+                + "import com.axellience.vuegwt.jsr69.component.annotations.BoundMethod;\n"
+                + "import com.axellience.vuegwt.jsr69.component.annotations.Component;\n"
+                + "import javax.inject.Inject;\n"
+                + "import jsinterop.annotations.JsMethod;\n\n"
+                + classBody).getBytes(StandardCharsets.UTF_8));
+
+        Path classesFolder = Files.createDirectories(root.resolve("classes"));
+        Path generatedFolder = Files.createDirectories(root.resolve("generated"));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics,
+            null,
+            StandardCharsets.UTF_8))
+        {
+            compiler.getTask(null,
+                fileManager,
+                diagnostics,
+                Arrays.asList("-classpath",
+                    System.getProperty("java.class.path"),
+                    "-d",
+                    classesFolder.toString(),
+                    "-s",
+                    generatedFolder.toString(),
+                    "-processor",
+                    VueGwtProcessor.class.getName()),
+                null,
+                fileManager.getJavaFileObjects(source.toFile())).call();
+        }
+
+        return diagnostics;
+    }
+
+    private String getErrors(DiagnosticCollector<JavaFileObject> diagnostics)
+    {
+        StringBuilder errors = new StringBuilder();
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics())
+        {
+            if (diagnostic.getKind() == Kind.ERROR)
+                errors.append(diagnostic.getMessage(null)).append('\n');
+        }
+        return errors.toString();
+    }
+}